@@ -0,0 +1,88 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Mixed read/write throughput: 3 threads search by ID while 1 thread replaces articles.
+// Compares ConcurrentArticleStore against an ArrayList guarded by a read-write lock.
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ConcurrentStoreBenchmark {
+
+    @Param({"copy-on-write", "read-write-lock"})
+    public String store;
+
+    @Param({"20000", "200000"})
+    public int datasetSize;
+
+    private List<Article> sortedData;
+    private ConcurrentArticleStore cowStore;
+    private List<Article> lockedList;
+    private ReentrantReadWriteLock lock;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sortedData = SearchBenchmark.buildDataset(datasetSize);
+        cowStore = new ConcurrentArticleStore(sortedData);
+        lockedList = new ArrayList<>(sortedData);
+        lock = new ReentrantReadWriteLock();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(3)
+    public int read() {
+        String key = randomId();
+        if (store.equals("copy-on-write")) {
+            return SearchAlgorithms.binarySearch(cowStore.snapshot(), key);
+        }
+        lock.readLock().lock();
+        try {
+            return SearchAlgorithms.binarySearch(lockedList, key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public void write() {
+        Article replacement = Article.createDummyArticle(randomId());
+        if (store.equals("copy-on-write")) {
+            cowStore.put(replacement);
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            int index = SearchAlgorithms.binarySearch(lockedList, replacement.getId());
+            lockedList.set(index, replacement);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private String randomId() {
+        return sortedData.get(ThreadLocalRandom.current().nextInt(sortedData.size())).getId();
+    }
+}
@@ -0,0 +1,92 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Interpolation-based searches against binary / exponential search on differently shaped ID sets.
+// "csv" is the real dataset (path overridable with -Darticles.csv=...); the rest are synthetic,
+// "arxiv" being the month-by-month ID layout of SyntheticArticles.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DistributionBenchmark {
+    @Param({"Binary Search", "Exponential Search", "Interpolation Search", "Interpolation-Sequential Search", "Adaptive Search"})
+    public String algorithm;
+
+    @Param({"ArrayList", "Skip List"})
+    public String structure;
+
+    @Param({"csv", "uniform", "clustered", "powerlaw", "arxiv"})
+    public String distribution;
+
+    // Size of the synthetic sets; the csv set keeps its own size
+    @Param({"200000"})
+    public int datasetSize;
+
+    private SearchAlgorithm<Article> searchAlgorithm;
+    private List<Article> list;
+    private String[] keys;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Article> sortedData = buildDataset(distribution, datasetSize, SearchBenchmark.SEED);
+        searchAlgorithm = SearchBenchmark.findAlgorithm(Main.defaultAlgorithms(), algorithm);
+        list = SearchBenchmark.findProvider(Main.defaultProviders(sortedData), structure).getList();
+        searchAlgorithm.prepare(list);
+        keys = SearchBenchmark.buildKeys(sortedData, SearchBenchmark.KEY_COUNT, 1.0, SearchBenchmark.SEED)
+            .toArray(new String[0]);
+        next = 0;
+    }
+
+    @Benchmark
+    public void search(Blackhole blackhole) {
+        String key = keys[next++ & (SearchBenchmark.KEY_COUNT - 1)];
+        blackhole.consume(searchAlgorithm.search(list, key));
+    }
+
+    static List<Article> buildDataset(String distribution, int size, long seed) {
+        if (distribution.equals("csv")) {
+            List<Article> articles = CSVReader.readCSV(System.getProperty("articles.csv", "src/main/resources/Article.csv"));
+            if (articles.isEmpty()) throw new IllegalStateException("No articles loaded for the csv distribution");
+            articles.sort(Article::compareTo);
+            return articles;
+        }
+        if (distribution.equals("uniform")) return SearchBenchmark.buildDataset(size);
+        if (distribution.equals("arxiv")) return new SyntheticArticles(size, seed).idArticles();
+
+        Random random = new Random(seed);
+        TreeSet<String> ids = new TreeSet<>();
+        while (ids.size() < size) {
+            long id = switch (distribution) {
+                // 16 dense runs far apart
+                case "clustered" -> (long) random.nextInt(16) * 1_000_000_000L + 2L * random.nextInt(size);
+                // Gaps growing with the rank, so most IDs sit near the low end of the range
+                case "powerlaw" -> 2L * Math.round(Math.pow(ids.size() + 1 + random.nextInt(3), 2.5));
+                default -> throw new IllegalArgumentException("Unknown distribution: " + distribution);
+            };
+            ids.add(Long.toString(id));
+        }
+        List<Article> articles = new ArrayList<>(size);
+        for (String id : ids) articles.add(Article.createDummyArticle(id));
+        return articles;
+    }
+}
@@ -0,0 +1,61 @@
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Learned index lookups and build time against binarySearchArrayList on the same sorted data.
+// The 20M-row trial needs a large heap, hence -Xmx6g on the forks.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 2, jvmArgsAppend = "-Xmx6g")
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LearnedIndexBenchmark {
+    @Param({"20000", "2000000", "20000000"})
+    public int datasetSize;
+
+    private List<Article> sortedData;
+    private LearnedIndex index;
+    private String[] keys;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sortedData = SearchBenchmark.buildDataset(datasetSize);
+        index = LearnedIndex.build(sortedData);
+        System.out.println(index.summary());
+        keys = SearchBenchmark.buildKeys(sortedData, SearchBenchmark.KEY_COUNT, 1.0, SearchBenchmark.SEED)
+            .toArray(new String[0]);
+        next = 0;
+    }
+
+    @Benchmark
+    public void learnedIndex(Blackhole blackhole) {
+        blackhole.consume(index.indexOf(keys[next++ & (SearchBenchmark.KEY_COUNT - 1)]));
+    }
+
+    @Benchmark
+    public void binarySearchArrayList(Blackhole blackhole) {
+        blackhole.consume(SearchAlgorithms.binarySearchArrayList(sortedData, keys[next++ & (SearchBenchmark.KEY_COUNT - 1)]));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public LearnedIndex build() {
+        return LearnedIndex.build(sortedData);
+    }
+}
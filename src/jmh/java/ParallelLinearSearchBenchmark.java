@@ -0,0 +1,70 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Speedup curve of Parallel Linear Search over worker counts, on shuffled (unsorted) articles.
+// threads = 1 is the sequential linearSearch; keep threads at or below the machine's core count.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ParallelLinearSearchBenchmark {
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    @Param({"ArrayList", "LinkedList"})
+    public String structure;
+
+    @Param({"200000", "2000000"})
+    public int datasetSize;
+
+    private ForkJoinPool pool;
+    private ParallelLinearSearch search;
+    private List<Article> list;
+    private String[] keys;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Article> sortedData = SearchBenchmark.buildDataset(datasetSize);
+        keys = SearchBenchmark.buildKeys(sortedData, SearchBenchmark.KEY_COUNT, 0.5, SearchBenchmark.SEED)
+            .toArray(new String[0]);
+        List<Article> shuffled = new ArrayList<>(sortedData);
+        Collections.shuffle(shuffled, new Random(SearchBenchmark.SEED));
+        list = structure.equals("LinkedList") ? new LinkedList<>(shuffled) : shuffled;
+        pool = new ForkJoinPool(threads);
+        search = new ParallelLinearSearch(pool);
+        next = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public void search(Blackhole blackhole) {
+        blackhole.consume(search.search(list, keys[next++ & (SearchBenchmark.KEY_COUNT - 1)]));
+    }
+}
@@ -0,0 +1,126 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+// JMH benchmark for every SearchAlgorithm x DataStructureProvider pair
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+// The SIMD searches need the Vector API module in the forked JVMs
+@Fork(value = 2, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SearchBenchmark {
+    // Number of pre-generated keys cycled through by the benchmark (power of two)
+    static final int KEY_COUNT = 1024;
+    static final long SEED = 42L;
+    // Same batch size as the race in Main.runPerformanceRace
+    static final int BATCH_SIZE = 30;
+    // -Dbenchmark.dataset=synthetic (pass it to the forks with -jvmArgsAppend) swaps the even-number
+    // IDs for the arXiv-style corpus of SyntheticArticles, with misses inside its ID range
+    static final boolean SYNTHETIC = "synthetic".equals(System.getProperty("benchmark.dataset"));
+
+    @Param({"Linear Search", "Binary Search", "Jump Search", "Exponential Search", "Parallel Linear Search",
+        "SIMD Linear Search", "SIMD Jump Search", "Interpolation Search", "Interpolation-Sequential Search",
+        "Adaptive Search", "Hash Index Search", "Eytzinger Search", "Learned Index Search"})
+    public String algorithm;
+
+    @Param({"ArrayList", "LinkedList", "Skip List", "ID Column", "Eytzinger", "Learned Index", "Concurrent Store"})
+    public String structure;
+
+    @Param({"20000", "200000"})
+    public int datasetSize;
+
+    // Fraction of keys that exist in the dataset
+    @Param({"1.0", "0.5", "0.0"})
+    public double hitRatio;
+
+    private SearchAlgorithm<Article> searchAlgorithm;
+    private List<Article> list;
+    private String[] keys;
+    private List<String> batchKeys;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Article> sortedData = buildDataset(datasetSize);
+        searchAlgorithm = findAlgorithm(Main.defaultAlgorithms(), algorithm);
+        list = findProvider(Main.defaultProviders(sortedData), structure).getList();
+        searchAlgorithm.prepare(list);
+        keys = buildKeys(sortedData, KEY_COUNT, hitRatio, SEED).toArray(new String[0]);
+        batchKeys = buildKeys(sortedData, BATCH_SIZE, hitRatio, SEED);
+        next = 0;
+    }
+
+    @Benchmark
+    public void search(Blackhole blackhole) {
+        String key = keys[next++ & (KEY_COUNT - 1)];
+        blackhole.consume(searchAlgorithm.search(list, key));
+    }
+
+    // Whole race-sized key set per invocation through the batch API
+    @Benchmark
+    public void searchAll(Blackhole blackhole) {
+        blackhole.consume(searchAlgorithm.searchAll(list, batchKeys));
+    }
+
+    // Sorted synthetic articles with even numeric IDs so odd IDs are guaranteed misses
+    static List<Article> buildDataset(int size) {
+        if (SYNTHETIC) return new SyntheticArticles(size, SEED).idArticles();
+        List<Article> articles = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            articles.add(Article.createDummyArticle(String.valueOf(2L * i)));
+        }
+        articles.sort(Article::compareTo);
+        return articles;
+    }
+
+    // Mix of existing and missing keys in a reproducible order
+    static List<String> buildKeys(List<Article> sortedData, int count, double hitRatio, long seed) {
+        Random random = new Random(seed);
+        SyntheticArticles corpus = SYNTHETIC ? new SyntheticArticles(sortedData.size(), SEED) : null;
+        int hits = (int) Math.round(count * hitRatio);
+        List<String> keys = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (i < hits) {
+                keys.add(sortedData.get(random.nextInt(sortedData.size())).getId());
+            } else if (corpus != null) {
+                keys.add(corpus.missingId(random));
+            } else {
+                keys.add(String.valueOf(2L * (random.nextInt(sortedData.size()) + 1) + 1));
+            }
+        }
+        Collections.shuffle(keys, random);
+        return keys;
+    }
+
+    static SearchAlgorithm<Article> findAlgorithm(List<SearchAlgorithm<Article>> algorithms, String name) {
+        for (SearchAlgorithm<Article> candidate : algorithms) {
+            if (candidate.getName().equals(name)) return candidate;
+        }
+        throw new IllegalArgumentException("Unknown search algorithm: " + name);
+    }
+
+    static DataStructureProvider<Article> findProvider(List<DataStructureProvider<Article>> providers, String name) {
+        for (DataStructureProvider<Article> candidate : providers) {
+            if (candidate.getName().equals(name)) return candidate;
+        }
+        throw new IllegalArgumentException("Unknown data structure: " + name);
+    }
+}
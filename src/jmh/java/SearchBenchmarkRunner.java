@@ -0,0 +1,99 @@
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.BenchmarkResult;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Runs SearchBenchmark through JMH and feeds the results into AlgorithmStats. Each run is one
+// measured iteration, a mean over a mix of hit and miss keys, so Found stays 0: the keys each pair
+// actually finds are checked and printed separately, before timing.
+// Usage: SearchBenchmarkRunner [datasetSize] [hitRatio] [--charts]
+public class SearchBenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        int datasetSize = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        double hitRatio = args.length > 1 ? Double.parseDouble(args[1]) : 0.5;
+        boolean showCharts = args.length > 2 && args[2].equals("--charts");
+
+        Map<String, AlgorithmStats> results = run(datasetSize, hitRatio);
+        new ConcurrentPerformanceAnalyzer().analyzeResults(results);
+        if (showCharts) {
+            new JFreeChartGenerator().generateAllCharts(results, datasetSize);
+        }
+    }
+
+    static Map<String, AlgorithmStats> run(int datasetSize, double hitRatio) throws RunnerException {
+        List<SearchAlgorithm<Article>> algorithms = Main.defaultAlgorithms();
+        List<DataStructureProvider<Article>> providers = Main.defaultProviders(List.of());
+        printVerification(verifyCombinations(datasetSize, hitRatio), hitRatio);
+
+        Options options = new OptionsBuilder()
+            .include(SearchBenchmark.class.getSimpleName() + ".search$")
+            .param("algorithm", algorithms.stream().map(SearchAlgorithm::getName).toArray(String[]::new))
+            .param("structure", providers.stream().map(DataStructureProvider::getName).toArray(String[]::new))
+            .param("datasetSize", String.valueOf(datasetSize))
+            .param("hitRatio", String.valueOf(hitRatio))
+            .mode(Mode.AverageTime)
+            .timeUnit(TimeUnit.MILLISECONDS)
+            .build();
+
+        Map<String, AlgorithmStats> statsMap = new ConcurrentHashMap<>();
+        Collection<RunResult> runResults = new Runner(options).run();
+        for (RunResult runResult : runResults) {
+            BenchmarkParams params = runResult.getParams();
+            String statsKey = SearchBenchmark.findAlgorithm(algorithms, params.getParam("algorithm"))
+                .labelFor(params.getParam("structure"));
+            AlgorithmStats stats = statsMap.computeIfAbsent(statsKey, k -> new AlgorithmStats());
+
+            // Each measured iteration becomes one run (mean ms per search)
+            int run = 0;
+            for (BenchmarkResult benchmarkResult : runResult.getBenchmarkResults()) {
+                for (IterationResult iteration : benchmarkResult.getIterationResults()) {
+                    stats.addResult(iteration.getPrimaryResult().getScore(), false, run++);
+                }
+            }
+        }
+        return statsMap;
+    }
+
+    // How many of the benchmark's keys each combination finds, by row label
+    private static Map<String, Integer> verifyCombinations(int datasetSize, double hitRatio) {
+        List<Article> sortedData = SearchBenchmark.buildDataset(datasetSize);
+        List<String> keys = SearchBenchmark.buildKeys(sortedData, SearchBenchmark.KEY_COUNT, hitRatio, SearchBenchmark.SEED);
+        Map<String, Integer> hitsByPair = new LinkedHashMap<>();
+
+        List<SearchAlgorithm<Article>> algorithms = Main.defaultAlgorithms();
+        List<DataStructureProvider<Article>> providers = Main.defaultProviders(sortedData);
+        List<List<Article>> lists = SearchAlgorithm.prepareAll(algorithms, providers);
+        for (int p = 0; p < providers.size(); p++) {
+            for (SearchAlgorithm<Article> algorithm : algorithms) {
+                int hits = 0;
+                for (String key : keys) {
+                    if (algorithm.search(lists.get(p), key) != -1) hits++;
+                }
+                hitsByPair.put(algorithm.labelFor(providers.get(p).getName()), hits);
+            }
+        }
+        return hitsByPair;
+    }
+
+    private static void printVerification(Map<String, Integer> hitsByPair, double hitRatio) {
+        int expectedHits = (int) Math.round(SearchBenchmark.KEY_COUNT * hitRatio);
+        System.out.println("\nKey Verification (" + SearchBenchmark.KEY_COUNT + " keys, " + expectedHits + " present):");
+        System.out.printf("%-50s %-8s %-8s%n", "Algorithm", "Found", "Status");
+        System.out.println("=".repeat(70));
+        hitsByPair.forEach((statsKey, hits) -> System.out.printf("%-50s %-8d %-8s%n",
+            statsKey, hits, hits == expectedHits ? "OK" : "MISMATCH"));
+    }
+}
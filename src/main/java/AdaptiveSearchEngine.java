@@ -0,0 +1,118 @@
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// Picks a search per ID range from a sample of the ID distribution taken at load time.
+// The sorted data is cut into equal-size segments. In each, sampled IDs are read as positions
+// (SearchAlgorithms.interpolationPosition) and checked against a straight line between the
+// segment's first and last ID. Near-linear segments use interpolation search, moderately skewed
+// ones an exponential search galloping out from the interpolated guess, and irregular or
+// non-numeric ones plain binary search.
+public final class AdaptiveSearchEngine {
+    enum Strategy { INTERPOLATION, EXPONENTIAL, BINARY }
+
+    private static final int MIN_SEGMENT_SIZE = 1024;
+    private static final int MAX_SEGMENTS = 64;
+    private static final int SAMPLES_PER_SEGMENT = 32;
+
+    private final int size;
+    // starts[s] .. starts[s + 1] is segment s
+    private final int[] starts;
+    private final String[] firstIds;
+    private final double[] firstPositions;
+    private final double[] lastPositions;
+    private final Strategy[] strategies;
+
+    private AdaptiveSearchEngine(int size, int[] starts, String[] firstIds, double[] firstPositions,
+                                 double[] lastPositions, Strategy[] strategies) {
+        this.size = size;
+        this.starts = starts;
+        this.firstIds = firstIds;
+        this.firstPositions = firstPositions;
+        this.lastPositions = lastPositions;
+        this.strategies = strategies;
+    }
+
+    public static AdaptiveSearchEngine build(List<Article> sortedData) {
+        int n = sortedData.size();
+        int segments = Math.max(1, Math.min(MAX_SEGMENTS, n / MIN_SEGMENT_SIZE));
+        if (n == 0) segments = 0;
+        int[] starts = new int[segments + 1];
+        String[] firstIds = new String[segments];
+        double[] firstPositions = new double[segments];
+        double[] lastPositions = new double[segments];
+        Strategy[] strategies = new Strategy[segments];
+
+        for (int s = 0; s < segments; s++) {
+            int from = (int) ((long) n * s / segments);
+            int to = (int) ((long) n * (s + 1) / segments);
+            starts[s] = from;
+            firstIds[s] = sortedData.get(from).getId();
+            firstPositions[s] = SearchAlgorithms.interpolationPosition(firstIds[s]);
+            lastPositions[s] = SearchAlgorithms.interpolationPosition(sortedData.get(to - 1).getId());
+            strategies[s] = classify(sortedData, from, to, firstPositions[s], lastPositions[s]);
+        }
+        starts[segments] = n;
+        return new AdaptiveSearchEngine(n, starts, firstIds, firstPositions, lastPositions, strategies);
+    }
+
+    // Worst distance, in slots, between a sampled ID's real index and where interpolation would put it
+    private static Strategy classify(List<Article> sortedData, int from, int to,
+                                     double firstPosition, double lastPosition) {
+        int length = to - from;
+        if (Double.isNaN(firstPosition) || Double.isNaN(lastPosition) || lastPosition <= firstPosition) {
+            return Strategy.BINARY;
+        }
+        double maxError = 0;
+        for (int j = 0; j <= SAMPLES_PER_SEGMENT; j++) {
+            int index = from + (int) ((long) (length - 1) * j / SAMPLES_PER_SEGMENT);
+            double position = SearchAlgorithms.interpolationPosition(sortedData.get(index).getId());
+            if (Double.isNaN(position)) return Strategy.BINARY;
+            double predicted = from + (position - firstPosition) / (lastPosition - firstPosition) * (length - 1);
+            maxError = Math.max(maxError, Math.abs(predicted - index));
+        }
+        if (maxError <= length / 16.0) return Strategy.INTERPOLATION;
+        if (maxError <= length / 4.0) return Strategy.EXPONENTIAL;
+        return Strategy.BINARY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int search(List<Article> list, String key) {
+        if (size == 0) return -1;
+        // Last segment whose first ID is <= key
+        int segment = Arrays.binarySearch(firstIds, key);
+        if (segment < 0) segment = -segment - 2;
+        if (segment < 0) return -1;
+        int from = starts[segment];
+        int to = starts[segment + 1];
+
+        return switch (strategies[segment]) {
+            case INTERPOLATION -> SearchAlgorithms.interpolationSearch(list, key, from, to);
+            case BINARY -> SearchAlgorithms.binarySearch(list, key, from, to);
+            case EXPONENTIAL -> gallopFromGuess(list, key, segment, from, to);
+        };
+    }
+
+    // Exponential search outwards from the interpolated index: O(log e) for a guess e slots off.
+    // SearchAlgorithms.gallopSearch walks a LinkedList with a cursor rather than get(i) per probe.
+    private int gallopFromGuess(List<Article> list, String key, int segment, int from, int to) {
+        double target = SearchAlgorithms.interpolationPosition(key);
+        int guess = to - from < 3 ? from
+            : SearchAlgorithms.interpolate(firstPositions[segment], lastPositions[segment], target, from, to - 1);
+        return SearchAlgorithms.gallopSearch(list, key, guess, from, to);
+    }
+
+    // e.g. "Adaptive engine: 64 segments (60 interpolation, 3 exponential, 1 binary)"
+    public String summary() {
+        Map<Strategy, Integer> counts = new EnumMap<>(Strategy.class);
+        for (Strategy strategy : Strategy.values()) counts.put(strategy, 0);
+        for (Strategy strategy : strategies) counts.merge(strategy, 1, Integer::sum);
+        return String.format("Adaptive engine: %d segments (%d interpolation, %d exponential, %d binary)",
+            strategies.length, counts.get(Strategy.INTERPOLATION), counts.get(Strategy.EXPONENTIAL),
+            counts.get(Strategy.BINARY));
+    }
+}
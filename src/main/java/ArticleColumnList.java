@@ -0,0 +1,29 @@
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+// Read-only article list that carries a packed ID column for the search algorithms to probe
+public class ArticleColumnList extends AbstractList<Article> implements RandomAccess {
+    private final Article[] articles;
+    private final ArticleIdColumn column;
+
+    public ArticleColumnList(List<Article> sortedData) {
+        this.articles = new ArrayList<>(sortedData).toArray(new Article[0]);
+        this.column = ArticleIdColumn.build(sortedData);
+    }
+
+    @Override
+    public Article get(int index) {
+        return articles[index];
+    }
+
+    @Override
+    public int size() {
+        return articles.length;
+    }
+
+    public ArticleIdColumn column() {
+        return column;
+    }
+}
@@ -0,0 +1,112 @@
+import java.util.List;
+
+// Sorted article IDs packed into contiguous primitive arrays for cache-friendly probing.
+// Numeric IDs (digits and '.', e.g. "20972" or "1705.01234") are packed 4 bits per char into longs
+// whose signed order matches String.compareTo. Anything else falls back to one shared char[].
+public final class ArticleIdColumn {
+    static final int MAX_NUMERIC_LENGTH = 15;
+    static final long NOT_ENCODABLE = -1L;
+
+    private final int size;
+    private final long[] numericIds;
+    private final char[] chars;
+    private final int[] offsets;
+
+    private ArticleIdColumn(int size, long[] numericIds, char[] chars, int[] offsets) {
+        this.size = size;
+        this.numericIds = numericIds;
+        this.chars = chars;
+        this.offsets = offsets;
+    }
+
+    public static ArticleIdColumn build(List<Article> sortedData) {
+        int n = sortedData.size();
+        long[] encoded = new long[n];
+        int totalChars = 0;
+        boolean numeric = true;
+        int i = 0;
+        for (Article article : sortedData) {
+            String id = article.getId();
+            totalChars += id.length();
+            if (numeric) {
+                encoded[i] = encode(id);
+                numeric = encoded[i] != NOT_ENCODABLE;
+            }
+            i++;
+        }
+        if (numeric) {
+            return new ArticleIdColumn(n, encoded, null, null);
+        }
+
+        // Fallback: every ID back to back in one char[], so comparisons match String.compareTo exactly
+        char[] chars = new char[totalChars];
+        int[] offsets = new int[n + 1];
+        i = 0;
+        for (Article article : sortedData) {
+            String id = article.getId();
+            id.getChars(0, id.length(), chars, offsets[i]);
+            offsets[i + 1] = offsets[i] + id.length();
+            i++;
+        }
+        return new ArticleIdColumn(n, null, chars, offsets);
+    }
+
+    // Packs up to 15 chars of [.0-9] into a non-negative long; '.' sorts below digits like in ASCII
+    public static long encode(String id) {
+        int length = id.length();
+        if (length == 0 || length > MAX_NUMERIC_LENGTH) return NOT_ENCODABLE;
+        long value = 0;
+        for (int i = 0; i < MAX_NUMERIC_LENGTH; i++) {
+            long code = 0; // padding sorts before any char, so prefixes sort first
+            if (i < length) {
+                char c = id.charAt(i);
+                if (c == '.') code = 1;
+                else if (c >= '0' && c <= '9') code = c - '0' + 2;
+                else return NOT_ENCODABLE;
+            }
+            value = (value << 4) | code;
+        }
+        return value;
+    }
+
+    public boolean isNumeric() {
+        return numericIds != null;
+    }
+
+    // Packed numeric IDs, or null when the column uses the char[] fallback
+    public long[] numericIds() {
+        return numericIds;
+    }
+
+    // Compares the ID at index with key using String.compareTo semantics (char[] fallback only)
+    public int compareAt(int index, String key) {
+        int start = offsets[index];
+        int length = offsets[index + 1] - start;
+        int limit = Math.min(length, key.length());
+        for (int k = 0; k < limit; k++) {
+            char c = chars[start + k];
+            char keyChar = key.charAt(k);
+            if (c != keyChar) return c - keyChar;
+        }
+        return length - key.length();
+    }
+
+    public String idAt(int index) {
+        if (numericIds != null) return decode(numericIds[index]);
+        return new String(chars, offsets[index], offsets[index + 1] - offsets[index]);
+    }
+
+    private static String decode(long value) {
+        StringBuilder id = new StringBuilder(MAX_NUMERIC_LENGTH);
+        for (int shift = (MAX_NUMERIC_LENGTH - 1) * 4; shift >= 0; shift -= 4) {
+            int code = (int) ((value >>> shift) & 0xF);
+            if (code == 0) break;
+            id.append(code == 1 ? '.' : (char) ('0' + code - 2));
+        }
+        return id.toString();
+    }
+
+    public int size() {
+        return size;
+    }
+}
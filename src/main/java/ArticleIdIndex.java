@@ -0,0 +1,70 @@
+import java.util.List;
+
+// Open-addressing hash index from article ID to list position.
+// Slots are primitive ints (position + 1, 0 = empty) with linear probing, so lookups never box.
+public final class ArticleIdIndex {
+    private final String[] ids;
+    private final int[] slots;
+    private final int[] slotHashes;
+    private final int mask;
+
+    private ArticleIdIndex(String[] ids, int capacity) {
+        this.ids = ids;
+        this.slots = new int[capacity];
+        this.slotHashes = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    // Builds the index once from sorted data; positions match the list order
+    public static ArticleIdIndex build(List<Article> sortedData) {
+        int n = sortedData.size();
+        String[] ids = new String[n];
+        int i = 0;
+        for (Article article : sortedData) {
+            ids[i++] = article.getId();
+        }
+
+        // Keep the load factor at or below 0.5 for short probe sequences
+        int capacity = Integer.highestOneBit(Math.max(2, n) * 2 - 1) << 1;
+        ArticleIdIndex index = new ArticleIdIndex(ids, capacity);
+        for (int pos = 0; pos < n; pos++) {
+            index.insert(pos);
+        }
+        return index;
+    }
+
+    private void insert(int pos) {
+        int hash = hash(ids[pos]);
+        int slot = hash & mask;
+        while (slots[slot] != 0) {
+            // Duplicate IDs keep the first position, like a left-to-right scan would
+            if (slotHashes[slot] == hash && ids[slots[slot] - 1].equals(ids[pos])) return;
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = pos + 1;
+        slotHashes[slot] = hash;
+    }
+
+    // Returns the position of the key, or -1 if absent (same contract as binarySearch)
+    public int indexOf(String key) {
+        if (key == null) return -1;
+        int hash = hash(key);
+        int slot = hash & mask;
+        int entry;
+        while ((entry = slots[slot]) != 0) {
+            if (slotHashes[slot] == hash && ids[entry - 1].equals(key)) return entry - 1;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    // Spreads String.hashCode bits so sequential numeric IDs don't cluster
+    private static int hash(String key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,130 @@
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+// Compact binary snapshot of an already sorted Article list for fast warm starts.
+// Layout (big-endian):
+//   header: magic, version, count, source size, source last-modified, CRC32C of the body
+//   body:   per article, id/title/abstract as (int length, UTF-8 bytes) then the six category ints
+// The source size and timestamp let a stale snapshot be detected without reading the CSV.
+public final class ArticleSnapshot {
+    private static final int MAGIC = 0x41525453; // "ARTS"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 4 + 4 + 8 + 8 + 8;
+
+    private ArticleSnapshot() {}
+
+    // Writes to a temporary file first and moves it into place, so readers never see a partial snapshot
+    public static void write(Path path, List<Article> sortedArticles, long sourceSize, long sourceModified)
+            throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            CRC32C checksum = new CRC32C();
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.position(HEADER_SIZE);
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new CheckedOutputStream(Channels.newOutputStream(channel), checksum), 1 << 16));
+                for (Article article : sortedArticles) {
+                    writeString(out, article.getId());
+                    writeString(out, article.getTitle());
+                    writeString(out, article.getAbstractText());
+                    out.writeInt(article.getComputerScience());
+                    out.writeInt(article.getPhysics());
+                    out.writeInt(article.getMathematics());
+                    out.writeInt(article.getStatistics());
+                    out.writeInt(article.getQuantitativeBiology());
+                    out.writeInt(article.getQuantitativeFinance());
+                }
+                out.flush();
+
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                header.putInt(MAGIC).putInt(VERSION).putInt(sortedArticles.size())
+                      .putLong(sourceSize).putLong(sourceModified).putLong(checksum.getValue());
+                header.flip();
+                while (header.hasRemaining()) {
+                    channel.write(header, header.position());
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // Maps the snapshot and returns its articles in stored (sorted) order,
+    // or null if it is missing, from another source version, or corrupt
+    public static List<Article> readIfFresh(Path path, long sourceSize, long sourceModified) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) return null;
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            if (mapped.getInt() != MAGIC || mapped.getInt() != VERSION) {
+                System.out.println("Ignoring snapshot with unknown format: " + path);
+                return null;
+            }
+            int count = mapped.getInt();
+            if (count < 0 || count > (size - HEADER_SIZE) / 36) return null;
+            if (mapped.getLong() != sourceSize || mapped.getLong() != sourceModified) {
+                System.out.println("Snapshot is out of date with the CSV file, rebuilding");
+                return null;
+            }
+            long expectedChecksum = mapped.getLong();
+
+            CRC32C checksum = new CRC32C();
+            checksum.update(mapped.slice(HEADER_SIZE, (int) size - HEADER_SIZE));
+            if (checksum.getValue() != expectedChecksum) {
+                System.out.println("Snapshot checksum mismatch, rebuilding");
+                return null;
+            }
+
+            List<Article> articles = new ArrayList<>(count);
+            byte[] scratch = new byte[256];
+            for (int i = 0; i < count; i++) {
+                String id = readString(mapped, scratch);
+                String title = readString(mapped, scratch);
+                String abstractText = readString(mapped, scratch);
+                articles.add(new Article(id, title, abstractText, mapped.getInt(), mapped.getInt(),
+                    mapped.getInt(), mapped.getInt(), mapped.getInt(), mapped.getInt()));
+            }
+            return articles;
+        }
+        catch (NoSuchFileException e) {
+            return null;
+        }
+        catch (IOException | BufferUnderflowException | IndexOutOfBoundsException e) {
+            System.out.println("Could not read snapshot " + path + ": " + e);
+            return null;
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in, byte[] scratch) {
+        int length = in.getInt();
+        byte[] buffer = length <= scratch.length ? scratch : new byte[length];
+        in.get(buffer, 0, length);
+        return new String(buffer, 0, length, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,277 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// BM25 top-k retrieval over an InvertedIndex.
+// topK uses WAND: each term carries the highest score it can give any document, and a document
+// is only scored when the bounds of the terms that can reach it beat the current k-th best score.
+// topKExhaustive scores every posting of every query term and is kept as the reference.
+public final class BM25Ranker {
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+
+    private final InvertedIndex index;
+    // k1 * (1 - b + b * length / averageLength) per document
+    private final double[] lengthNorms;
+    private final Map<String, Double> maxScores;
+
+    public BM25Ranker(InvertedIndex index) {
+        this.index = index;
+        int documents = index.documentCount();
+        long totalLength = 0;
+        for (int doc = 0; doc < documents; doc++) {
+            totalLength += index.documentLength(doc);
+        }
+        double averageLength = documents == 0 ? 1 : Math.max(1, (double) totalLength / documents);
+        this.lengthNorms = new double[documents];
+        for (int doc = 0; doc < documents; doc++) {
+            lengthNorms[doc] = K1 * (1 - B + B * index.documentLength(doc) / averageLength);
+        }
+
+        // Upper bound per term: its best score over all of its postings
+        this.maxScores = new HashMap<>(index.termCount() * 2);
+        for (String term : index.terms()) {
+            InvertedIndex.PostingCursor cursor = index.cursor(term);
+            double idf = idf(cursor.count());
+            double max = 0;
+            for (; cursor.doc() != InvertedIndex.PostingCursor.NO_MORE_DOCS; cursor.next()) {
+                max = Math.max(max, termScore(idf, cursor.freq(), cursor.doc()));
+            }
+            maxScores.put(term, max);
+        }
+    }
+
+    // Query terms, deduplicated; the Boolean "OR" keyword is dropped since ranking ORs every term anyway
+    public static List<String> queryTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>(InvertedIndex.tokenize(query.replaceAll("\\bOR\\b", " ")));
+        return new ArrayList<>(terms);
+    }
+
+    public Result topK(String query, int k) {
+        TermScorer[] scorers = scorers(query);
+        TopKHeap heap = new TopKHeap(k);
+        int scored = 0;
+        int live = scorers.length;
+
+        while (live > 0 && k > 0) {
+            sortByDoc(scorers, live);
+            while (live > 0 && scorers[live - 1].cursor.doc() == InvertedIndex.PostingCursor.NO_MORE_DOCS) live--;
+            if (live == 0) break;
+
+            // Pivot: first term at which the summed bounds could beat the k-th best score
+            double threshold = heap.threshold();
+            double bound = 0;
+            int pivot = -1;
+            for (int i = 0; i < live; i++) {
+                bound += scorers[i].maxScore;
+                if (!heap.isFull() || bound >= threshold) {
+                    pivot = i;
+                    break;
+                }
+            }
+            if (pivot == -1) break;
+
+            int pivotDoc = scorers[pivot].cursor.doc();
+            if (scorers[0].cursor.doc() == pivotDoc) {
+                double score = 0;
+                for (int i = 0; i < live && scorers[i].cursor.doc() == pivotDoc; i++) {
+                    score += scorers[i].score();
+                    scorers[i].cursor.next();
+                    scored++;
+                }
+                heap.offer(pivotDoc, score);
+            } else {
+                // No document before the pivot can make the top k: skip the lagging terms forward
+                for (int i = 0; i < pivot; i++) {
+                    scorers[i].cursor.advance(pivotDoc);
+                }
+            }
+        }
+        return heap.result(scored);
+    }
+
+    public Result topKExhaustive(String query, int k) {
+        TermScorer[] scorers = scorers(query);
+        TopKHeap heap = new TopKHeap(k);
+        int scored = 0;
+
+        while (k > 0) {
+            int doc = InvertedIndex.PostingCursor.NO_MORE_DOCS;
+            for (TermScorer scorer : scorers) {
+                doc = Math.min(doc, scorer.cursor.doc());
+            }
+            if (doc == InvertedIndex.PostingCursor.NO_MORE_DOCS) break;
+
+            double score = 0;
+            for (TermScorer scorer : scorers) {
+                if (scorer.cursor.doc() == doc) {
+                    score += scorer.score();
+                    scorer.cursor.next();
+                    scored++;
+                }
+            }
+            heap.offer(doc, score);
+        }
+        return heap.result(scored);
+    }
+
+    // Postings of all query terms, i.e. what an exhaustive evaluation scores
+    public int totalPostings(String query) {
+        int total = 0;
+        for (String term : queryTerms(query)) {
+            total += index.documentFrequency(term);
+        }
+        return total;
+    }
+
+    private TermScorer[] scorers(String query) {
+        List<TermScorer> scorers = new ArrayList<>();
+        for (String term : queryTerms(query)) {
+            InvertedIndex.PostingCursor cursor = index.cursor(term);
+            if (cursor != null) {
+                scorers.add(new TermScorer(cursor, idf(cursor.count()), maxScores.get(term)));
+            }
+        }
+        return scorers.toArray(new TermScorer[0]);
+    }
+
+    private double idf(int documentFrequency) {
+        int documents = index.documentCount();
+        return Math.log(1 + (documents - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private double termScore(double idf, int freq, int doc) {
+        return idf * freq * (K1 + 1) / (freq + lengthNorms[doc]);
+    }
+
+    // Query terms are few, so insertion sort by current document is enough
+    private static void sortByDoc(TermScorer[] scorers, int live) {
+        for (int i = 1; i < live; i++) {
+            TermScorer current = scorers[i];
+            int j = i - 1;
+            while (j >= 0 && scorers[j].cursor.doc() > current.cursor.doc()) {
+                scorers[j + 1] = scorers[j];
+                j--;
+            }
+            scorers[j + 1] = current;
+        }
+    }
+
+    private final class TermScorer {
+        final InvertedIndex.PostingCursor cursor;
+        final double idf;
+        final double maxScore;
+
+        TermScorer(InvertedIndex.PostingCursor cursor, double idf, double maxScore) {
+            this.cursor = cursor;
+            this.idf = idf;
+            this.maxScore = maxScore;
+        }
+
+        double score() {
+            return termScore(idf, cursor.freq(), cursor.doc());
+        }
+    }
+
+    // Bounded min-heap of the k best (score, doc) pairs; on equal scores the lower doc wins
+    private static final class TopKHeap {
+        private final int[] docs;
+        private final double[] scores;
+        private int size = 0;
+
+        TopKHeap(int k) {
+            this.docs = new int[Math.max(k, 0)];
+            this.scores = new double[Math.max(k, 0)];
+        }
+
+        boolean isFull() {
+            return size == docs.length;
+        }
+
+        double threshold() {
+            return isFull() && size > 0 ? scores[0] : 0;
+        }
+
+        void offer(int doc, double score) {
+            if (docs.length == 0) return;
+            if (!isFull()) {
+                docs[size] = doc;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (worse(scores[0], docs[0], score, doc)) {
+                docs[0] = doc;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        // Best first
+        Result result(int scored) {
+            int[] sortedDocs = new int[size];
+            double[] sortedScores = new double[size];
+            for (int i = size - 1; i >= 0; i--) {
+                sortedDocs[i] = docs[0];
+                sortedScores[i] = scores[0];
+                size--;
+                docs[0] = docs[size];
+                scores[0] = scores[size];
+                siftDown(0);
+            }
+            return new Result(sortedDocs, sortedScores, scored);
+        }
+
+        private static boolean worse(double scoreA, int docA, double scoreB, int docB) {
+            return scoreA < scoreB || (scoreA == scoreB && docA > docB);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!worse(scores[i], docs[i], scores[parent], docs[parent])) break;
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) break;
+                int child = left + 1 < size && worse(scores[left + 1], docs[left + 1], scores[left], docs[left])
+                    ? left + 1 : left;
+                if (!worse(scores[child], docs[child], scores[i], docs[i])) break;
+                swap(i, child);
+                i = child;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int doc = docs[a];
+            docs[a] = docs[b];
+            docs[b] = doc;
+            double score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+        }
+    }
+
+    // Top-k documents best first, and how many postings were scored to find them
+    public static final class Result {
+        private final int[] docs;
+        private final double[] scores;
+        private final int scoredPostings;
+
+        Result(int[] docs, double[] scores, int scoredPostings) {
+            this.docs = docs;
+            this.scores = scores;
+            this.scoredPostings = scoredPostings;
+        }
+
+        public int[] getDocs() { return docs; }
+        public double[] getScores() { return scores; }
+        public int getScoredPostings() { return scoredPostings; }
+    }
+}
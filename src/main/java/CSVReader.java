@@ -1,103 +1,133 @@
 import java.io.BufferedReader;
+import java.io.Closeable;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class CSVReader {
     
+    static final int EXPECTED_FIELDS = 9;
+    static final int MAX_REPORTED_ERRORS = 10;
+    static final int RECORDS_PER_CHUNK = 1000;
+    // Most bytes a tail reads per poll; the rest waits for the next one
+    static final int MAX_TAIL_BYTES = 64 * 1024 * 1024;
+
     //Reads CSV file and returns a list of Article objects
     public static List<Article> readCSV(String filename) {
         String filePath = filename;
         List<Article> articles = new ArrayList<>();
         
         try (BufferedReader br = new BufferedReader(new InputStreamReader(new FileInputStream(filePath), StandardCharsets.UTF_8))) {
-            String line;
-            boolean isFirstLine = true;
-            int lineNumber = 0;
             int successfulReads = 0;
             int errors = 0;
-            StringBuilder multiLineRecord = new StringBuilder();
-            boolean inMultiLineRecord = false;
-            int recordStartLine = 0;
+            RecordScanner scanner = new RecordScanner();
             
             System.out.println("Reading CSV file: " + filename);
+            skipHeader(br, scanner);
             
-            while ((line = br.readLine()) != null) {
-                lineNumber++;
-                
-                // Skip header line
-                if (isFirstLine) {
-                    isFirstLine = false;
-                    System.out.println("CSV Header: " + line.substring(0, Math.min(100, line.length())) + "...");
-                    continue;
-                }
-                
-                // Handle records that span multiple lines
-                if (!inMultiLineRecord) {
-                    multiLineRecord = new StringBuilder(line);
-                    recordStartLine = lineNumber;
-                    inMultiLineRecord = true;
-                } 
-                
-                else {
-                    multiLineRecord.append(" ").append(line);
-                }
-                
-                // Check if we have a complete record (9 properly separated fields)
-                String currentRecord = multiLineRecord.toString();
-                List<String> fields = parseCSVFields(currentRecord);
-                
-                if (fields.size() >= 9) {
-                    try {
-                        Article article = parseCSVLine(currentRecord, recordStartLine);
-                        if (article != null) {
-                            articles.add(article);
-                            successfulReads++;
-                            
-                            //Show progress for csv data compilation
-                            if (successfulReads % 1000 == 0) {
-                                System.out.println("Processed " + successfulReads + " articles...");
-                            }
-                        }
-                    } 
-                    
-                    catch (Exception e) {
-                        errors++;
-                        if (errors <= 10) { 
-                            System.err.println("Error parsing record starting at line " + recordStartLine + ": " + e.getMessage());
+            String record;
+            while ((record = scanner.nextRecord(br)) != null) {
+                try {
+                    Article article = parseCSVLine(record, scanner.recordStartLine());
+                    if (article != null) {
+                        articles.add(article);
+                        successfulReads++;
+                        
+                        //Show progress for csv data compilation
+                        if (successfulReads % 1000 == 0) {
+                            System.out.println("Processed " + successfulReads + " articles...");
                         }
                     }
-                    
-                    // Reset for next record
-                    inMultiLineRecord = false;
-                    multiLineRecord = new StringBuilder();
+                } 
+                catch (Exception e) {
+                    errors++;
+                    if (errors <= MAX_REPORTED_ERRORS) { 
+                        System.err.println("Error parsing record starting at line " + scanner.recordStartLine() + ": " + e.getMessage());
+                    }
                 }
             }
+            printSummary(successfulReads, errors);
+        } 
+        catch (FileNotFoundException e) {
+            System.err.println("Error: CSV file not found at path: " + filePath);
+            System.err.println("Please check the file path and ensure the file exists.");
+        } 
+        catch (IOException e) {
+            System.err.println("Error reading CSV file: " + e.getMessage());
+        }
+        return articles;
+    }
+    
+    //Reads CSV file with one reader thread splitting records and a worker pool parsing them.
+    //Chunks are collected in submission order, so the result matches readCSV exactly.
+    public static List<Article> readCSVParallel(String filename, int threads) {
+        String filePath = filename;
+        List<Article> articles = new ArrayList<>();
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, threads));
+        
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(new FileInputStream(filePath), StandardCharsets.UTF_8))) {
+            RecordScanner scanner = new RecordScanner();
+            List<Future<ParsedChunk>> chunks = new ArrayList<>();
             
-            // Handle any remaining incomplete record at end of file
-            if (inMultiLineRecord && multiLineRecord.length() > 0) {
-                try {
-                    String currentRecord = multiLineRecord.toString();
-                    List<String> fields = parseCSVFields(currentRecord);
-                    if (fields.size() >= 9) {
-                        Article article = parseCSVLine(currentRecord, recordStartLine);
-                        if (article != null) {
-                            articles.add(article);
-                            successfulReads++;
-                        }
-                    }
-                } catch (Exception e) {
+            System.out.println("Reading CSV file: " + filename + " (" + Math.max(1, threads) + " parser threads)");
+            skipHeader(br, scanner);
+            
+            // Reader thread: find record boundaries and hand fixed-size chunks to the workers
+            List<String> records = new ArrayList<>(RECORDS_PER_CHUNK);
+            int[] startLines = new int[RECORDS_PER_CHUNK];
+            String record;
+            while ((record = scanner.nextRecord(br)) != null) {
+                startLines[records.size()] = scanner.recordStartLine();
+                records.add(record);
+                if (records.size() == RECORDS_PER_CHUNK) {
+                    chunks.add(workers.submit(parseChunkTask(records, startLines)));
+                    records = new ArrayList<>(RECORDS_PER_CHUNK);
+                    startLines = new int[RECORDS_PER_CHUNK];
+                }
+            }
+            if (!records.isEmpty()) {
+                chunks.add(workers.submit(parseChunkTask(records, startLines)));
+            }
+            
+            int successfulReads = 0;
+            int errors = 0;
+            for (Future<ParsedChunk> future : chunks) {
+                ParsedChunk chunk = future.get();
+                articles.addAll(chunk.articles);
+                for (String message : chunk.errorMessages) {
                     errors++;
+                    if (errors <= MAX_REPORTED_ERRORS) {
+                        System.err.println(message);
+                    }
+                }
+                int before = successfulReads;
+                successfulReads += chunk.articles.size();
+                if (successfulReads / 1000 > before / 1000) {
+                    System.out.println("Processed " + (successfulReads / 1000) * 1000 + " articles...");
                 }
             }
-            System.out.println("\nCSV Reading Summary:");
-            System.out.println("Successfully loaded articles: " + successfulReads);
-            System.out.println("Errors encountered: " + errors);
+            printSummary(successfulReads, errors);
         } 
         catch (FileNotFoundException e) {
             System.err.println("Error: CSV file not found at path: " + filePath);
@@ -106,9 +136,257 @@ public class CSVReader {
         catch (IOException e) {
             System.err.println("Error reading CSV file: " + e.getMessage());
         }
+        catch (InterruptedException e) {
+            System.err.println("CSV parsing interrupted: " + e.getMessage());
+            Thread.currentThread().interrupt();
+        }
+        catch (ExecutionException e) {
+            System.err.println("Error parsing CSV chunk: " + e.getCause());
+        }
+        finally {
+            workers.shutdownNow();
+        }
         return articles;
     }
     
+    //Streams Articles lazily as records are parsed; close the stream to release the file.
+    //Bad records are skipped and reported like in readCSV.
+    public static Stream<Article> streamCSV(String filename) throws IOException {
+        BufferedReader br = new BufferedReader(new InputStreamReader(new FileInputStream(filename), StandardCharsets.UTF_8));
+        RecordScanner scanner = new RecordScanner();
+        try {
+            skipHeader(br, scanner);
+        } catch (IOException e) {
+            br.close();
+            throw e;
+        }
+        
+        Spliterator<Article> records = new Spliterators.AbstractSpliterator<Article>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            private int errors = 0;
+            
+            @Override
+            public boolean tryAdvance(Consumer<? super Article> action) {
+                try {
+                    String record;
+                    while ((record = scanner.nextRecord(br)) != null) {
+                        Article article = null;
+                        try {
+                            article = parseCSVLine(record, scanner.recordStartLine());
+                        } 
+                        catch (Exception e) {
+                            errors++;
+                            if (errors <= MAX_REPORTED_ERRORS) {
+                                System.err.println("Error parsing record starting at line " + scanner.recordStartLine() + ": " + e.getMessage());
+                            }
+                        }
+                        if (article != null) {
+                            action.accept(article);
+                            return true;
+                        }
+                    }
+                    return false;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        return StreamSupport.stream(records, false).onClose(() -> {
+            try {
+                br.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+    
+    //Follows a CSV file that is still being appended to: each poll() parses the records completed
+    //since the previous one. A line still being written, or a multi-line record whose last lines
+    //have not arrived, waits for a later poll. A file that shrinks is taken as rewritten and reread.
+    public static Tail tailCSV(String filename) throws IOException {
+        return new Tail(FileChannel.open(Paths.get(filename), StandardOpenOption.READ));
+    }
+    
+    public static final class Tail implements Closeable {
+        private final FileChannel channel;
+        private RecordScanner scanner = new RecordScanner();
+        private long offset = 0;
+        private boolean headerSkipped = false;
+        private int errors = 0;
+        
+        private Tail(FileChannel channel) {
+            this.channel = channel;
+        }
+        
+        //Articles of the records completed since the last poll, in file order
+        public List<Article> poll() throws IOException {
+            List<Article> articles = new ArrayList<>();
+            long size = channel.size();
+            if (size < offset) {
+                offset = 0;
+                scanner = new RecordScanner();
+                headerSkipped = false;
+            }
+            if (size == offset) {
+                return articles;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(size - offset, MAX_TAIL_BYTES));
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) <= 0) {
+                    break;
+                }
+            }
+            //Only whole lines: anything after the last newline may still be being written
+            int end = buffer.position();
+            while (end > 0 && buffer.get(end - 1) != '\n') {
+                end--;
+            }
+            if (end == 0) {
+                return articles;
+            }
+            offset += end;
+            
+            BufferedReader lines = new BufferedReader(new StringReader(
+                new String(buffer.array(), 0, end, StandardCharsets.UTF_8)));
+            if (!headerSkipped) {
+                skipHeader(lines, scanner);
+                headerSkipped = true;
+            }
+            String line;
+            while ((line = scanner.readLine(lines)) != null) {
+                String record = scanner.append(line);
+                if (record == null) {
+                    continue;
+                }
+                try {
+                    Article article = parseCSVLine(record, scanner.recordStartLine());
+                    if (article != null) {
+                        articles.add(article);
+                    }
+                } 
+                catch (Exception e) {
+                    errors++;
+                    if (errors <= MAX_REPORTED_ERRORS) {
+                        System.err.println("Error parsing record starting at line " + scanner.recordStartLine() + ": " + e.getMessage());
+                    }
+                }
+            }
+            return articles;
+        }
+        
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+    
+    private static Callable<ParsedChunk> parseChunkTask(List<String> records, int[] startLines) {
+        return () -> {
+            ParsedChunk chunk = new ParsedChunk(records.size());
+            for (int i = 0; i < records.size(); i++) {
+                try {
+                    Article article = parseCSVLine(records.get(i), startLines[i]);
+                    if (article != null) {
+                        chunk.articles.add(article);
+                    }
+                } 
+                catch (Exception e) {
+                    chunk.errorMessages.add("Error parsing record starting at line " + startLines[i] + ": " + e.getMessage());
+                }
+            }
+            return chunk;
+        };
+    }
+    
+    // Articles and error messages of one chunk, in record order
+    static class ParsedChunk {
+        final List<Article> articles;
+        final List<String> errorMessages = new ArrayList<>();
+        
+        ParsedChunk(int capacity) {
+            this.articles = new ArrayList<>(capacity);
+        }
+    }
+    
+    private static void skipHeader(BufferedReader br, RecordScanner scanner) throws IOException {
+        String header = scanner.readLine(br);
+        if (header != null) {
+            System.out.println("CSV Header: " + header.substring(0, Math.min(100, header.length())) + "...");
+        }
+    }
+    
+    static void printSummary(int successfulReads, int errors) {
+        System.out.println("\nCSV Reading Summary:");
+        System.out.println("Successfully loaded articles: " + successfulReads);
+        System.out.println("Errors encountered: " + errors);
+    }
+    
+    //Quote-aware record splitter: tracks quote state and separator count line by line,
+    //so a multi-line record is joined once instead of being re-parsed after every line.
+    //A record is complete once it has 9 fields, exactly like parsing the joined text would report.
+    private static class RecordScanner {
+        private int lineNumber = 0;
+        private int recordStartLine = 0;
+        //Record being joined, kept between calls so lines can arrive one at a time
+        private StringBuilder record = null;
+        private boolean inQuotes = false;
+        private int fields = 1;
+        
+        String readLine(BufferedReader br) throws IOException {
+            String line = br.readLine();
+            if (line != null) lineNumber++;
+            return line;
+        }
+        
+        // Returns the next complete record (lines joined with a space), or null at end of file.
+        // A trailing incomplete record is dropped, as it can never reach 9 fields.
+        String nextRecord(BufferedReader br) throws IOException {
+            String line;
+            while ((line = readLine(br)) != null) {
+                String complete = append(line);
+                if (complete != null) {
+                    return complete;
+                }
+            }
+            return null;
+        }
+        
+        //Adds the line just read to the current record; returns the record once it is complete
+        String append(String line) {
+            if (record == null) {
+                record = new StringBuilder(line);
+                recordStartLine = lineNumber;
+            } else {
+                record.append(' ').append(line);
+            }
+            
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (c == '"') {
+                    if (inQuotes && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        i++; // escaped quote
+                    } else {
+                        inQuotes = !inQuotes;
+                    }
+                } else if (c == ',' && !inQuotes) {
+                    fields++;
+                }
+            }
+            if (fields < EXPECTED_FIELDS) {
+                return null;
+            }
+            String complete = record.toString();
+            record = null;
+            inQuotes = false;
+            fields = 1;
+            return complete;
+        }
+        
+        int recordStartLine() {
+            return recordStartLine;
+        }
+    }
+    
     //Parses a single CSV line into an Article object
     private static Article parseCSVLine(String line, int lineNumber) {
         if (line == null || line.trim().isEmpty()) {
@@ -117,7 +395,7 @@ public class CSVReader {
 
         //Expected header fields from csv file
         List<String> fields = parseCSVFields(line);
-        if (fields.size() < 9) {
+        if (fields.size() < EXPECTED_FIELDS) {
             throw new IllegalArgumentException("Insufficient fields. Expected: 9, Received: " + fields.size() + " at line " + lineNumber);
         }
         try {
@@ -187,7 +465,7 @@ public class CSVReader {
     }
     
     //Cleans a field by removing surrounding quotes and handling whitespace
-    private static String cleanField(String field) {
+    static String cleanField(String field) {
         if (field == null) return "";
         field = field.trim();
         
@@ -204,7 +482,7 @@ public class CSVReader {
     }
     
     //Parses an integer field, handling various formats and edge cases
-    private static int parseIntegerField(String field, String fieldName) {
+    static int parseIntegerField(String field, String fieldName) {
         if (field == null || field.trim().isEmpty()) {
             return 0;
         }
@@ -0,0 +1,177 @@
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+// One compressed bitmap per arXiv category over article positions in the list it was built from,
+// so category filters and counts never touch Article objects.
+// Query syntax: category names combined with AND, OR, NOT and parentheses,
+// e.g. "physics AND NOT (math OR stats)". AND binds tighter than OR.
+public final class CategoryIndex {
+    public enum Category {
+        COMPUTER_SCIENCE("Computer Science", "cs", Article::getComputerScience),
+        PHYSICS("Physics", "physics", Article::getPhysics),
+        MATHEMATICS("Mathematics", "math", Article::getMathematics),
+        STATISTICS("Statistics", "stats", Article::getStatistics),
+        QUANTITATIVE_BIOLOGY("Quantitative Biology", "bio", Article::getQuantitativeBiology),
+        QUANTITATIVE_FINANCE("Quantitative Finance", "finance", Article::getQuantitativeFinance);
+
+        private final String displayName;
+        private final String shortName;
+        private final ToIntFunction<Article> flag;
+
+        Category(String displayName, String shortName, ToIntFunction<Article> flag) {
+            this.displayName = displayName;
+            this.shortName = shortName;
+            this.flag = flag;
+        }
+
+        public String getDisplayName() { return displayName; }
+        public String getShortName() { return shortName; }
+
+        // Accepts the short name, the enum name or the display name in any case
+        static Category parse(String name) {
+            String normalized = name.toLowerCase(Locale.ROOT).replace('_', ' ');
+            for (Category category : values()) {
+                if (category.shortName.equals(normalized)
+                        || category.displayName.toLowerCase(Locale.ROOT).equals(normalized)) {
+                    return category;
+                }
+            }
+            throw new IllegalArgumentException("Unknown category: " + name);
+        }
+    }
+
+    private final Map<Category, CompressedBitmap> bitmaps;
+    private final CompressedBitmap all;
+
+    private CategoryIndex(Map<Category, CompressedBitmap> bitmaps, CompressedBitmap all) {
+        this.bitmaps = bitmaps;
+        this.all = all;
+    }
+
+    public static CategoryIndex build(List<Article> articles) {
+        Map<Category, CompressedBitmap.Builder> builders = new EnumMap<>(Category.class);
+        for (Category category : Category.values()) {
+            builders.put(category, new CompressedBitmap.Builder());
+        }
+        int doc = 0;
+        for (Article article : articles) {
+            for (Category category : Category.values()) {
+                if (category.flag.applyAsInt(article) == 1) {
+                    builders.get(category).add(doc);
+                }
+            }
+            doc++;
+        }
+
+        Map<Category, CompressedBitmap> bitmaps = new EnumMap<>(Category.class);
+        for (Map.Entry<Category, CompressedBitmap.Builder> entry : builders.entrySet()) {
+            bitmaps.put(entry.getKey(), entry.getValue().build());
+        }
+        return new CategoryIndex(bitmaps, CompressedBitmap.range(doc));
+    }
+
+    public CompressedBitmap bitmap(Category category) {
+        return bitmaps.get(category);
+    }
+
+    public int count(Category category) {
+        return bitmaps.get(category).cardinality();
+    }
+
+    // Every indexed position; the universe NOT is taken against
+    public CompressedBitmap all() {
+        return all;
+    }
+
+    public long sizeInBytes() {
+        long bytes = 0;
+        for (CompressedBitmap bitmap : bitmaps.values()) {
+            bytes += bitmap.sizeInBytes();
+        }
+        return bytes;
+    }
+
+    public CompressedBitmap query(String expression) {
+        QueryParser parser = new QueryParser(tokenize(expression));
+        CompressedBitmap result = parser.parseOr();
+        if (parser.hasMore()) {
+            throw new IllegalArgumentException("Unexpected '" + parser.peek() + "' in category query");
+        }
+        return result;
+    }
+
+    private static List<String> tokenize(String expression) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i <= expression.length(); i++) {
+            char c = i < expression.length() ? expression.charAt(i) : ' ';
+            if (c == '(' || c == ')' || Character.isWhitespace(c)) {
+                if (word.length() > 0) {
+                    tokens.add(word.toString());
+                    word.setLength(0);
+                }
+                if (c == '(' || c == ')') tokens.add(String.valueOf(c));
+            } else {
+                word.append(c);
+            }
+        }
+        return tokens;
+    }
+
+    // or := and ("OR" and)* ; and := not ("AND" not)* ; not := "NOT" not | "(" or ")" | category
+    private final class QueryParser {
+        private final List<String> tokens;
+        private int pos = 0;
+
+        QueryParser(List<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        boolean hasMore() {
+            return pos < tokens.size();
+        }
+
+        String peek() {
+            return tokens.get(pos);
+        }
+
+        CompressedBitmap parseOr() {
+            CompressedBitmap result = parseAnd();
+            while (accept("OR")) {
+                result = result.or(parseAnd());
+            }
+            return result;
+        }
+
+        private CompressedBitmap parseAnd() {
+            CompressedBitmap result = parseNot();
+            while (accept("AND")) {
+                result = result.and(parseNot());
+            }
+            return result;
+        }
+
+        private CompressedBitmap parseNot() {
+            if (!hasMore()) throw new IllegalArgumentException("Incomplete category query");
+            if (accept("NOT")) return all.andNot(parseNot());
+            if (accept("(")) {
+                CompressedBitmap inner = parseOr();
+                if (!accept(")")) throw new IllegalArgumentException("Missing ')' in category query");
+                return inner;
+            }
+            return bitmaps.get(Category.parse(tokens.get(pos++)));
+        }
+
+        private boolean accept(String token) {
+            if (hasMore() && tokens.get(pos).equalsIgnoreCase(token)) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+import java.util.Arrays;
+
+// Immutable Roaring-style bitmap of non-negative ints.
+// Values are split by their high 16 bits into chunks; a chunk holding fewer than 4096 values
+// is stored as a sorted char[] of low bits, a fuller one as a 1024-word long[] bitset.
+public final class CompressedBitmap {
+    private static final int CHUNK_BITS = 16;
+    private static final int WORDS_PER_CHUNK = (1 << CHUNK_BITS) / 64;
+    private static final int ARRAY_MAX = 4096;
+    private static final CompressedBitmap EMPTY = new CompressedBitmap(new int[0], new char[0][], new long[0][], 0);
+
+    private final int[] keys;
+    // Per chunk exactly one of sparse / dense is non-null
+    private final char[][] sparse;
+    private final long[][] dense;
+    private final int cardinality;
+
+    private CompressedBitmap(int[] keys, char[][] sparse, long[][] dense, int cardinality) {
+        this.keys = keys;
+        this.sparse = sparse;
+        this.dense = dense;
+        this.cardinality = cardinality;
+    }
+
+    public static CompressedBitmap empty() {
+        return EMPTY;
+    }
+
+    // Values must be ascending and non-negative
+    public static CompressedBitmap of(int[] values, int length) {
+        Builder builder = new Builder();
+        for (int i = 0; i < length; i++) {
+            builder.add(values[i]);
+        }
+        return builder.build();
+    }
+
+    public static CompressedBitmap of(int... values) {
+        return of(values, values.length);
+    }
+
+    // Every value in [0, size)
+    public static CompressedBitmap range(int size) {
+        Builder builder = new Builder();
+        for (int value = 0; value < size; value++) {
+            builder.add(value);
+        }
+        return builder.build();
+    }
+
+    public int cardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    public boolean contains(int value) {
+        int chunk = Arrays.binarySearch(keys, value >>> CHUNK_BITS);
+        if (chunk < 0) return false;
+        char low = (char) value;
+        if (dense[chunk] != null) {
+            return (dense[chunk][low >>> 6] & (1L << low)) != 0;
+        }
+        return Arrays.binarySearch(sparse[chunk], low) >= 0;
+    }
+
+    public CompressedBitmap and(CompressedBitmap other) {
+        return combine(this, other, Operation.AND);
+    }
+
+    public CompressedBitmap or(CompressedBitmap other) {
+        return combine(this, other, Operation.OR);
+    }
+
+    public CompressedBitmap andNot(CompressedBitmap other) {
+        return combine(this, other, Operation.AND_NOT);
+    }
+
+    // Ascending values
+    public int[] toArray() {
+        int[] values = new int[cardinality];
+        int n = 0;
+        for (int c = 0; c < keys.length; c++) {
+            int high = keys[c] << CHUNK_BITS;
+            if (dense[c] != null) {
+                long[] words = dense[c];
+                for (int w = 0; w < words.length; w++) {
+                    long word = words[w];
+                    while (word != 0) {
+                        values[n++] = high | (w << 6) | Long.numberOfTrailingZeros(word);
+                        word &= word - 1;
+                    }
+                }
+            } else {
+                for (char low : sparse[c]) {
+                    values[n++] = high | low;
+                }
+            }
+        }
+        return values;
+    }
+
+    // Keeps the entries of an ascending int[] that are in this bitmap
+    public int[] filter(int[] sortedValues) {
+        int[] kept = new int[sortedValues.length];
+        int n = 0;
+        for (int value : sortedValues) {
+            if (contains(value)) kept[n++] = value;
+        }
+        return Arrays.copyOf(kept, n);
+    }
+
+    public long sizeInBytes() {
+        long bytes = keys.length * 4L;
+        for (int c = 0; c < keys.length; c++) {
+            bytes += dense[c] != null ? dense[c].length * 8L : sparse[c].length * 2L;
+        }
+        return bytes;
+    }
+
+    private enum Operation { AND, OR, AND_NOT }
+
+    // Chunks are combined as bitsets and re-compacted
+    private static CompressedBitmap combine(CompressedBitmap a, CompressedBitmap b, Operation operation) {
+        Builder builder = new Builder();
+        int i = 0, j = 0;
+        while (i < a.keys.length || j < b.keys.length) {
+            int keyA = i < a.keys.length ? a.keys[i] : Integer.MAX_VALUE;
+            int keyB = j < b.keys.length ? b.keys[j] : Integer.MAX_VALUE;
+            if (keyA == keyB) {
+                long[] words = a.words(i++);
+                long[] otherWords = b.words(j++);
+                for (int w = 0; w < WORDS_PER_CHUNK; w++) {
+                    switch (operation) {
+                        case AND -> words[w] &= otherWords[w];
+                        case OR -> words[w] |= otherWords[w];
+                        case AND_NOT -> words[w] &= ~otherWords[w];
+                    }
+                }
+                builder.addChunk(keyA, words);
+            } else if (keyA < keyB) {
+                if (operation != Operation.AND) builder.addChunk(keyA, a.words(i));
+                i++;
+            } else {
+                if (operation == Operation.OR) builder.addChunk(keyB, b.words(j));
+                j++;
+            }
+        }
+        return builder.build();
+    }
+
+    // A fresh bitset copy of one chunk
+    private long[] words(int chunk) {
+        if (dense[chunk] != null) return dense[chunk].clone();
+        long[] words = new long[WORDS_PER_CHUNK];
+        for (char low : sparse[chunk]) {
+            words[low >>> 6] |= 1L << low;
+        }
+        return words;
+    }
+
+    // Collects ascending values (or whole chunks) and picks the smaller container per chunk
+    public static final class Builder {
+        private int[] keys = new int[4];
+        private char[][] sparse = new char[4][];
+        private long[][] dense = new long[4][];
+        private int chunks = 0;
+        private int cardinality = 0;
+
+        private int currentKey = -1;
+        private char[] pending = new char[64];
+        private int pendingSize = 0;
+
+        public Builder add(int value) {
+            if (value < 0) throw new IllegalArgumentException("Negative value: " + value);
+            int key = value >>> CHUNK_BITS;
+            char low = (char) value;
+            if (key != currentKey) {
+                if (key < currentKey) throw new IllegalArgumentException("Values must be ascending: " + value);
+                flushPending();
+                currentKey = key;
+            } else if (pendingSize > 0 && low <= pending[pendingSize - 1]) {
+                if (low == pending[pendingSize - 1]) return this;
+                throw new IllegalArgumentException("Values must be ascending: " + value);
+            }
+            if (pendingSize == pending.length) pending = Arrays.copyOf(pending, pendingSize * 2);
+            pending[pendingSize++] = low;
+            return this;
+        }
+
+        public CompressedBitmap build() {
+            flushPending();
+            currentKey = -1;
+            return new CompressedBitmap(Arrays.copyOf(keys, chunks), Arrays.copyOf(sparse, chunks),
+                Arrays.copyOf(dense, chunks), cardinality);
+        }
+
+        private void flushPending() {
+            if (pendingSize == 0) return;
+            if (pendingSize < ARRAY_MAX) {
+                append(currentKey, Arrays.copyOf(pending, pendingSize), null, pendingSize);
+            } else {
+                long[] words = new long[WORDS_PER_CHUNK];
+                for (int i = 0; i < pendingSize; i++) {
+                    words[pending[i] >>> 6] |= 1L << pending[i];
+                }
+                append(currentKey, null, words, pendingSize);
+            }
+            pendingSize = 0;
+        }
+
+        private void addChunk(int key, long[] words) {
+            flushPending();
+            int count = 0;
+            for (long word : words) {
+                count += Long.bitCount(word);
+            }
+            if (count == 0) return;
+            if (count >= ARRAY_MAX) {
+                append(key, null, words, count);
+                return;
+            }
+            char[] lows = new char[count];
+            int n = 0;
+            for (int w = 0; w < words.length; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    lows[n++] = (char) ((w << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            append(key, lows, null, count);
+        }
+
+        private void append(int key, char[] lows, long[] words, int count) {
+            if (chunks == keys.length) {
+                keys = Arrays.copyOf(keys, chunks * 2);
+                sparse = Arrays.copyOf(sparse, chunks * 2);
+                dense = Arrays.copyOf(dense, chunks * 2);
+            }
+            keys[chunks] = key;
+            sparse[chunks] = lows;
+            dense[chunks] = words;
+            chunks++;
+            cardinality += count;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Sorted article store for concurrent use: readers take the current immutable snapshot with a
+// single volatile read and never block; writers copy, modify and publish a new snapshot with
+// compareAndSet, retrying if another writer got there first (lock-free, O(n) per write).
+// Batch writes merge a whole sorted batch in one copy.
+public class ConcurrentArticleStore {
+    private final AtomicReference<Snapshot> current;
+
+    public ConcurrentArticleStore(List<Article> sortedData) {
+        this.current = new AtomicReference<>(new Snapshot(sortedData.toArray(new Article[0])));
+    }
+
+    // Current sorted snapshot; it never changes, so a search can run on it without locking
+    public List<Article> snapshot() {
+        return current.get();
+    }
+
+    public int size() {
+        return current.get().size();
+    }
+
+    // Adds the article, or replaces the one with the same ID
+    public void put(Article article) {
+        while (true) {
+            Snapshot old = current.get();
+            Article[] articles = old.articles;
+            int pos = lowerBound(articles, article.getId());
+            Article[] updated;
+            if (pos < articles.length && articles[pos].getId().equals(article.getId())) {
+                updated = articles.clone();
+                updated[pos] = article;
+            } else {
+                updated = new Article[articles.length + 1];
+                System.arraycopy(articles, 0, updated, 0, pos);
+                updated[pos] = article;
+                System.arraycopy(articles, pos, updated, pos + 1, articles.length - pos);
+            }
+            if (current.compareAndSet(old, new Snapshot(updated))) return;
+        }
+    }
+
+    // Adds or replaces a batch with one merge; later entries win for duplicate IDs within the batch
+    public void putAll(Collection<Article> batch) {
+        List<Article> sortedBatch = new ArrayList<>(batch);
+        sortedBatch.sort((a, b) -> a.getId().compareTo(b.getId())); // stable: later duplicates stay last
+        while (true) {
+            Snapshot old = current.get();
+            Article[] articles = old.articles;
+            Article[] merged = new Article[articles.length + sortedBatch.size()];
+            int i = 0, j = 0, k = 0;
+            while (i < articles.length || j < sortedBatch.size()) {
+                if (j == sortedBatch.size()) {
+                    merged[k++] = articles[i++];
+                    continue;
+                }
+                Article incoming = sortedBatch.get(j);
+                // Skip batch entries superseded by a later one with the same ID
+                if (j + 1 < sortedBatch.size() && sortedBatch.get(j + 1).getId().equals(incoming.getId())) {
+                    j++;
+                    continue;
+                }
+                int cmp = i < articles.length ? articles[i].getId().compareTo(incoming.getId()) : 1;
+                if (cmp < 0) {
+                    merged[k++] = articles[i++];
+                } else {
+                    if (cmp == 0) i++; // replace
+                    merged[k++] = incoming;
+                    j++;
+                }
+            }
+            Article[] updated = k == merged.length ? merged : Arrays.copyOf(merged, k);
+            if (current.compareAndSet(old, new Snapshot(updated))) return;
+        }
+    }
+
+    // Returns the article with this ID in the current snapshot, or null
+    public Article find(String id) {
+        Article[] articles = current.get().articles;
+        int pos = lowerBound(articles, id);
+        return pos < articles.length && articles[pos].getId().equals(id) ? articles[pos] : null;
+    }
+
+    private static int lowerBound(Article[] articles, String id) {
+        int low = 0, high = articles.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (articles[mid].getId().compareTo(id) < 0) low = mid + 1;
+            else high = mid - 1;
+        }
+        return low;
+    }
+
+    // Immutable sorted view published by the store
+    static final class Snapshot extends AbstractList<Article> implements RandomAccess {
+        private final Article[] articles;
+
+        Snapshot(Article[] articles) {
+            this.articles = articles;
+        }
+
+        @Override
+        public Article get(int index) {
+            return articles[index];
+        }
+
+        @Override
+        public int size() {
+            return articles.length;
+        }
+    }
+}
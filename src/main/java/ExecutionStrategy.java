@@ -0,0 +1,85 @@
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+// Where ConcurrentPerformanceAnalyzer runs its search tasks. A reused strategy creates its executor
+// on first use and hands the same one to every race until close(); a per-run one builds and shuts
+// down a fresh executor each time, which is what the analyzer used to do.
+public final class ExecutionStrategy {
+    private final String name;
+    private final Supplier<ExecutorService> factory;
+    private final boolean reused;
+    private ExecutorService shared;
+
+    private ExecutionStrategy(String name, Supplier<ExecutorService> factory, boolean reused) {
+        this.name = name;
+        this.factory = factory;
+        this.reused = reused;
+    }
+
+    // Fixed pool of platform threads, kept between races
+    public static ExecutionStrategy platformPool(int threads) {
+        return new ExecutionStrategy("Platform pool (reused)", () -> Executors.newFixedThreadPool(threads), true);
+    }
+
+    // Fixed pool of platform threads created for each race and shut down after it
+    public static ExecutionStrategy platformPoolPerRun(int threads) {
+        return new ExecutionStrategy("Platform pool (per run)", () -> Executors.newFixedThreadPool(threads), false);
+    }
+
+    // A new virtual thread per task, multiplexed over the JVM's carrier threads
+    public static ExecutionStrategy virtualThreads() {
+        return new ExecutionStrategy("Virtual thread per task", Executors::newVirtualThreadPerTaskExecutor, true);
+    }
+
+    // Work-stealing ForkJoinPool, kept between races
+    public static ExecutionStrategy forkJoin(int parallelism) {
+        return new ExecutionStrategy("ForkJoinPool (work stealing)", () -> new ForkJoinPool(parallelism), true);
+    }
+
+    // Every strategy, sized to the machine
+    public static List<ExecutionStrategy> all() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        return List.of(platformPoolPerRun(cores), platformPool(cores), virtualThreads(), forkJoin(cores));
+    }
+
+    // "platform", "per-run", "virtual" or "forkjoin" (e.g. from -Drace.executor=virtual)
+    public static ExecutionStrategy named(String name) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        return switch (name.trim().toLowerCase()) {
+            case "platform" -> platformPool(cores);
+            case "per-run" -> platformPoolPerRun(cores);
+            case "virtual" -> virtualThreads();
+            case "forkjoin" -> forkJoin(cores);
+            default -> throw new IllegalArgumentException("Unknown executor strategy: " + name);
+        };
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isReused() {
+        return reused;
+    }
+
+    // Executor for one race; pass it back to release() when the race's tasks are done
+    public synchronized ExecutorService acquire() {
+        if (!reused) return factory.get();
+        if (shared == null) shared = factory.get();
+        return shared;
+    }
+
+    public void release(ExecutorService executor) {
+        if (!reused) executor.shutdown();
+    }
+
+    public synchronized void close() {
+        if (shared != null) {
+            shared.shutdown();
+            shared = null;
+        }
+    }
+}
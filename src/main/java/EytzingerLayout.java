@@ -0,0 +1,92 @@
+import java.util.List;
+
+// Sorted article IDs re-laid in Eytzinger (BFS) order: node k has children 2k and 2k+1 (1-based).
+// The search loop always descends one level with k = 2k + (ids[k] < key), so there is no
+// data-dependent branch, and the nodes of each level sit next to each other in memory.
+public final class EytzingerLayout {
+    private final int size;
+    private final long[] numericIds;
+    private final String[] ids;
+    private final int[] positions;
+
+    private EytzingerLayout(int size, long[] numericIds, String[] ids, int[] positions) {
+        this.size = size;
+        this.numericIds = numericIds;
+        this.ids = ids;
+        this.positions = positions;
+    }
+
+    public static EytzingerLayout build(List<Article> sortedData) {
+        int n = sortedData.size();
+        String[] sortedIds = new String[n];
+        int i = 0;
+        for (Article article : sortedData) {
+            sortedIds[i++] = article.getId();
+        }
+
+        // Slot 0 is unused so the child arithmetic stays 2k / 2k+1
+        int[] order = new int[n + 1];
+        fill(order, 1, 0, n);
+
+        String[] ids = new String[n + 1];
+        long[] numericIds = new long[n + 1];
+        boolean numeric = true;
+        for (int k = 1; k <= n; k++) {
+            ids[k] = sortedIds[order[k]];
+            if (numeric) {
+                numericIds[k] = ArticleIdColumn.encode(ids[k]);
+                numeric = numericIds[k] != ArticleIdColumn.NOT_ENCODABLE;
+            }
+        }
+        return numeric
+            ? new EytzingerLayout(n, numericIds, null, order)
+            : new EytzingerLayout(n, null, ids, order);
+    }
+
+    // In-order walk of the implicit tree assigns sorted positions to BFS slots
+    private static int fill(int[] order, int k, int next, int n) {
+        if (k <= n) {
+            next = fill(order, 2 * k, next, n);
+            order[k] = next++;
+            next = fill(order, 2 * k + 1, next, n);
+        }
+        return next;
+    }
+
+    // Returns the sorted position of the key, or -1 if absent (same contract as binarySearch)
+    public int indexOf(String key) {
+        int k = numericIds != null ? lowerBoundNumeric(key) : lowerBoundString(key);
+        if (k == 0) return -1;
+        boolean match = numericIds != null
+            ? numericIds[k] == ArticleIdColumn.encode(key)
+            : ids[k].equals(key);
+        return match ? positions[k] : -1;
+    }
+
+    private int lowerBoundNumeric(String key) {
+        long encoded = ArticleIdColumn.encode(key);
+        if (encoded == ArticleIdColumn.NOT_ENCODABLE) return 0;
+        long[] tree = numericIds;
+        int n = size;
+        int k = 1;
+        while (k <= n) {
+            k = 2 * k + (tree[k] < encoded ? 1 : 0);
+        }
+        // Undo the trailing right turns plus the final left turn to land on the lower bound
+        return k >>> (Integer.numberOfTrailingZeros(~k) + 1);
+    }
+
+    private int lowerBoundString(String key) {
+        String[] tree = ids;
+        int n = size;
+        int k = 1;
+        while (k <= n) {
+            k = 2 * k + (tree[k].compareTo(key) < 0 ? 1 : 0);
+        }
+        return k >>> (Integer.numberOfTrailingZeros(~k) + 1);
+    }
+
+    public int size() {
+        return size;
+    }
+}
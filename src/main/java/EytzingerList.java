@@ -0,0 +1,15 @@
+import java.util.List;
+
+// Sorted article list that also carries its IDs in Eytzinger order for EytzingerSearchAdapter
+public final class EytzingerList extends ArticleColumnList {
+    private final EytzingerLayout layout;
+
+    public EytzingerList(List<Article> sortedData) {
+        super(sortedData);
+        this.layout = EytzingerLayout.build(sortedData);
+    }
+
+    public EytzingerLayout layout() {
+        return layout;
+    }
+}
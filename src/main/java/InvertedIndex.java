@@ -0,0 +1,296 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// Full-text inverted index over Article titles and abstracts.
+// Documents are positions in the list the index was built from. Each term's posting list is
+// stored as (doc gap, term frequency) varint pairs in one byte[], and decoded to int[] only for
+// the terms a query uses. Token counts per document are kept for ranked retrieval (BM25Ranker).
+// Queries: whitespace-separated terms are ANDed, "OR" separates alternatives,
+// e.g. "neural network OR deep learning" = (neural AND network) OR (deep AND learning).
+public final class InvertedIndex {
+    private static final int MIN_TOKEN_LENGTH = 2;
+
+    private final Map<String, PostingList> postings;
+    private final int[] documentLengths;
+
+    private InvertedIndex(Map<String, PostingList> postings, int[] documentLengths) {
+        this.postings = postings;
+        this.documentLengths = documentLengths;
+    }
+
+    public static InvertedIndex build(List<Article> articles) {
+        Map<String, PostingBuilder> builders = new HashMap<>();
+        int[] documentLengths = new int[articles.size()];
+        int doc = 0;
+        for (Article article : articles) {
+            final int currentDoc = doc;
+            TokenSink sink = token -> {
+                builders.computeIfAbsent(token, t -> new PostingBuilder()).add(currentDoc);
+                documentLengths[currentDoc]++;
+            };
+            tokenize(article.getTitle(), sink);
+            tokenize(article.getAbstractText(), sink);
+            doc++;
+        }
+
+        Map<String, PostingList> postings = new HashMap<>(builders.size() * 2);
+        for (Map.Entry<String, PostingBuilder> entry : builders.entrySet()) {
+            postings.put(entry.getKey(), entry.getValue().compress());
+        }
+        return new InvertedIndex(postings, documentLengths);
+    }
+
+    // Lower-cased runs of letters and digits, at least two chars long
+    public static void tokenize(String text, TokenSink sink) {
+        if (text == null) return;
+        int length = text.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean wordChar = i < length && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                if (i - start >= MIN_TOKEN_LENGTH) {
+                    sink.accept(text.substring(start, i).toLowerCase(Locale.ROOT));
+                }
+                start = -1;
+            }
+        }
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        tokenize(text, tokens::add);
+        return tokens;
+    }
+
+    // Sorted document positions matching the query
+    public int[] search(String query) {
+        int[] result = new int[0];
+        for (String clause : query.split("\\s+OR\\s+")) {
+            List<String> terms = tokenize(clause);
+            if (!terms.isEmpty()) {
+                result = union(result, searchAll(terms));
+            }
+        }
+        return result;
+    }
+
+    // Documents containing every term; intersects from the rarest term up
+    public int[] searchAll(List<String> terms) {
+        List<PostingList> lists = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            PostingList list = postings.get(term);
+            if (list == null) return new int[0];
+            lists.add(list);
+        }
+        lists.sort((a, b) -> Integer.compare(a.count, b.count));
+        int[] result = lists.get(0).decode();
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i).decode());
+        }
+        return result;
+    }
+
+    // Documents containing at least one term
+    public int[] searchAny(List<String> terms) {
+        int[] result = new int[0];
+        for (String term : terms) {
+            result = union(result, postings(term));
+        }
+        return result;
+    }
+
+    public int[] postings(String term) {
+        PostingList list = postings.get(term);
+        return list == null ? new int[0] : list.decode();
+    }
+
+    // Streams (doc, frequency) pairs of a term without decoding the whole list; null for unknown terms
+    PostingCursor cursor(String term) {
+        PostingList list = postings.get(term);
+        return list == null ? null : new PostingCursor(list);
+    }
+
+    Set<String> terms() {
+        return postings.keySet();
+    }
+
+    public int documentLength(int doc) {
+        return documentLengths[doc];
+    }
+
+    public int documentFrequency(String term) {
+        PostingList list = postings.get(term);
+        return list == null ? 0 : list.count;
+    }
+
+    public int termCount() {
+        return postings.size();
+    }
+
+    public int documentCount() {
+        return documentLengths.length;
+    }
+
+    public long compressedBytes() {
+        long total = 0;
+        for (PostingList list : postings.values()) {
+            total += list.data.length;
+        }
+        return total;
+    }
+
+    static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) i++;
+            else if (a[i] > b[j]) j++;
+            else {
+                out[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, k);
+    }
+
+    static int[] union(int[] a, int[] b) {
+        if (a.length == 0) return b;
+        if (b.length == 0) return a;
+        int[] out = new int[a.length + b.length];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length || j < b.length) {
+            if (j == b.length || (i < a.length && a[i] < b[j])) out[k++] = a[i++];
+            else if (i == a.length || b[j] < a[i]) out[k++] = b[j++];
+            else {
+                out[k++] = a[i++];
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, k);
+    }
+
+    @FunctionalInterface
+    public interface TokenSink {
+        void accept(String token);
+    }
+
+    // Growable int[] pair of increasing document positions and term frequencies
+    private static final class PostingBuilder {
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size = 0;
+
+        void add(int doc) {
+            if (size > 0 && docs[size - 1] == doc) {
+                freqs[size - 1]++;
+                return;
+            }
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = 1;
+            size++;
+        }
+
+        PostingList compress() {
+            byte[] buffer = new byte[size * 10];
+            int length = 0;
+            int previous = -1;
+            for (int i = 0; i < size; i++) {
+                length = writeVarint(buffer, length, docs[i] - previous);
+                length = writeVarint(buffer, length, freqs[i]);
+                previous = docs[i];
+            }
+            return new PostingList(Arrays.copyOf(buffer, length), size);
+        }
+
+        private static int writeVarint(byte[] buffer, int pos, int value) {
+            while ((value & ~0x7F) != 0) {
+                buffer[pos++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[pos++] = (byte) value;
+            return pos;
+        }
+    }
+
+    // Delta + varint compressed posting list
+    private static final class PostingList {
+        final byte[] data;
+        final int count;
+
+        PostingList(byte[] data, int count) {
+            this.data = data;
+            this.count = count;
+        }
+
+        int[] decode() {
+            int[] docs = new int[count];
+            PostingCursor cursor = new PostingCursor(this);
+            for (int i = 0; i < count; i++) {
+                docs[i] = cursor.doc();
+                cursor.next();
+            }
+            return docs;
+        }
+    }
+
+    // Forward-only reader over one posting list, positioned on its first document
+    static final class PostingCursor {
+        static final int NO_MORE_DOCS = Integer.MAX_VALUE;
+
+        private final byte[] data;
+        private final int count;
+        private int pos = 0;
+        private int read = 0;
+        private int doc = -1;
+        private int freq = 0;
+
+        private PostingCursor(PostingList list) {
+            this.data = list.data;
+            this.count = list.count;
+            next();
+        }
+
+        int doc() { return doc; }
+        int freq() { return freq; }
+        int count() { return count; }
+
+        void next() {
+            if (read == count) {
+                doc = NO_MORE_DOCS;
+                return;
+            }
+            doc += readVarint();
+            freq = readVarint();
+            read++;
+        }
+
+        // Moves to the first document >= target
+        void advance(int target) {
+            while (doc < target) next();
+        }
+
+        private int readVarint() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[pos++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Thread-safe latency histogram in nanoseconds, laid out like HdrHistogram: values below 128 get a
+// bucket each, and above that every power of two is split into 64 linear sub-buckets, so a recorded
+// value is kept to within 1/64 (about 1.6%) of itself over the whole long range.
+// Values go to a fixed set of striped histograms, a few per core, picked by thread ID and guarded by
+// an uncontended tryLock; a busy stripe sends the writer on to the next one. Memory stays bounded
+// however many threads record (a virtual thread per task is a new thread each time), and reads
+// merge the stripes under their locks, so they are consistent even while recording continues.
+public final class LatencyRecorder {
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Values below this are counted exactly
+    private static final int LINEAR_LIMIT = 2 * SUB_BUCKETS;
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + (63 - (SUB_BUCKET_BITS + 1)) * SUB_BUCKETS;
+
+    // Stripes per recorder: twice the cores, rounded up to a power of two
+    private static final int STRIPES = Integer.highestOneBit(
+        Math.max(1, 2 * Runtime.getRuntime().availableProcessors() - 1)) << 1;
+
+    private static final class Histogram {
+        final ReentrantLock lock = new ReentrantLock();
+        final long[] counts = new long[BUCKET_COUNT];
+        long count;
+        long total;
+        double totalSquares;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+
+        void record(long nanos) {
+            counts[bucketOf(nanos)]++;
+            count++;
+            total += nanos;
+            totalSquares += (double) nanos * nanos;
+            if (nanos < min) min = nanos;
+            if (nanos > max) max = nanos;
+        }
+    }
+
+    // Created on first use, so a recorder only written by one thread holds one histogram
+    private final AtomicReferenceArray<Histogram> stripes = new AtomicReferenceArray<>(STRIPES);
+
+    // Negative durations (clock adjustments) are recorded as 0
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        int start = (int) (Thread.currentThread().threadId() * 0x9E3779B9L >>> 16);
+        for (int probe = 0; probe < STRIPES; probe++) {
+            Histogram histogram = stripe((start + probe) & (STRIPES - 1));
+            if (histogram.lock.tryLock()) {
+                recordLocked(histogram, value);
+                return;
+            }
+        }
+        // Every stripe busy: wait on the home one
+        Histogram histogram = stripe(start & (STRIPES - 1));
+        histogram.lock.lock();
+        recordLocked(histogram, value);
+    }
+
+    private static void recordLocked(Histogram histogram, long value) {
+        try {
+            histogram.record(value);
+        } finally {
+            histogram.lock.unlock();
+        }
+    }
+
+    private Histogram stripe(int index) {
+        Histogram histogram = stripes.get(index);
+        if (histogram == null) {
+            stripes.compareAndSet(index, null, new Histogram());
+            histogram = stripes.get(index);
+        }
+        return histogram;
+    }
+
+    // Copy of every stripe written so far, each taken under its lock
+    private Histogram merged() {
+        Histogram merged = new Histogram();
+        for (int i = 0; i < STRIPES; i++) {
+            Histogram histogram = stripes.get(i);
+            if (histogram == null) continue;
+            histogram.lock.lock();
+            try {
+                long[] counts = histogram.counts;
+                for (int b = 0; b < BUCKET_COUNT; b++) merged.counts[b] += counts[b];
+                merged.count += histogram.count;
+                merged.total += histogram.total;
+                merged.totalSquares += histogram.totalSquares;
+                merged.min = Math.min(merged.min, histogram.min);
+                merged.max = Math.max(merged.max, histogram.max);
+            } finally {
+                histogram.lock.unlock();
+            }
+        }
+        return merged;
+    }
+
+    public long count() {
+        long count = 0;
+        for (int i = 0; i < STRIPES; i++) {
+            Histogram histogram = stripes.get(i);
+            if (histogram == null) continue;
+            histogram.lock.lock();
+            try {
+                count += histogram.count;
+            } finally {
+                histogram.lock.unlock();
+            }
+        }
+        return count;
+    }
+
+    public long min() {
+        long min = merged().min;
+        return min == Long.MAX_VALUE ? 0 : min;
+    }
+
+    public long max() {
+        long max = merged().max;
+        return max == Long.MIN_VALUE ? 0 : max;
+    }
+
+    public double mean() {
+        Histogram merged = merged();
+        return merged.count == 0 ? 0 : (double) merged.total / merged.count;
+    }
+
+    // Population standard deviation, exact (from running sums, not from the buckets)
+    public double stdDev() {
+        Histogram merged = merged();
+        if (merged.count == 0) return 0;
+        double mean = (double) merged.total / merged.count;
+        return Math.sqrt(Math.max(0, merged.totalSquares / merged.count - mean * mean));
+    }
+
+    public long percentile(double percentile) {
+        return percentiles(percentile)[0];
+    }
+
+    // Nearest-rank percentiles (each 0-100) from one merge; bucket midpoints clamped to [min, max]
+    public long[] percentiles(double... percentiles) {
+        Histogram merged = merged();
+        long count = merged.count;
+        long[] values = new long[percentiles.length];
+        if (count == 0) return values;
+        long min = merged.min;
+        long max = merged.max;
+        for (int i = 0; i < percentiles.length; i++) {
+            long rank = Math.max(1, (long) Math.ceil(percentiles[i] / 100.0 * count));
+            long seen = 0;
+            int b = 0;
+            while (b < BUCKET_COUNT - 1 && seen + merged.counts[b] < rank) {
+                seen += merged.counts[b];
+                b++;
+            }
+            values[i] = Math.max(min, Math.min(max, valueOf(b)));
+        }
+        return values;
+    }
+
+    static int bucketOf(long value) {
+        if (value < LINEAR_LIMIT) return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return LINEAR_LIMIT + (exponent - (SUB_BUCKET_BITS + 1)) * SUB_BUCKETS + subBucket;
+    }
+
+    // Midpoint of the values that land in bucket
+    static long valueOf(int bucket) {
+        if (bucket < LINEAR_LIMIT) return bucket;
+        int exponent = (bucket - LINEAR_LIMIT) / SUB_BUCKETS + SUB_BUCKET_BITS + 1;
+        int subBucket = (bucket - LINEAR_LIMIT) % SUB_BUCKETS;
+        int shift = exponent - SUB_BUCKET_BITS;
+        long low = (long) (SUB_BUCKETS + subBucket) << shift;
+        return low + (1L << shift) / 2;
+    }
+}
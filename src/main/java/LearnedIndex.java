@@ -0,0 +1,222 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// PGM-style learned index: piecewise-linear models map encoded IDs (ArticleIdColumn.encode) to
+// sorted positions. Each leaf segment predicts a key's position within EPSILON slots, so a lookup
+// is a prediction plus a binary search over a window of 2 * EPSILON + 3 keys. The leaf segments'
+// first keys are indexed the same way (with INTERNAL_EPSILON) until a single root segment is left.
+// Segments come from a greedy shrinking cone: a segment grows while one slope still keeps every key
+// it covers within epsilon. IDs that do not encode fall back to binary search over the IDs.
+public final class LearnedIndex {
+    static final int EPSILON = 64;
+    static final int INTERNAL_EPSILON = 4;
+    // firstKey (long) + slope (double) + start (int) per segment
+    private static final int SEGMENT_BYTES = 20;
+
+    // One layer of segments over a sorted long[]; segment s covers positions starts[s] .. starts[s + 1]
+    private static final class Level {
+        final long[] firstKeys;
+        final double[] slopes;
+        final int[] starts;
+        final int epsilon;
+
+        Level(long[] firstKeys, double[] slopes, int[] starts, int epsilon) {
+            this.firstKeys = firstKeys;
+            this.slopes = slopes;
+            this.starts = starts;
+            this.epsilon = epsilon;
+        }
+
+        int segmentCount() {
+            return firstKeys.length;
+        }
+
+        // Predicted position of key in segment s, kept inside the segment's own positions
+        int predict(int s, long key) {
+            double offset = slopes[s] * (double) (key - firstKeys[s]);
+            int start = starts[s];
+            int end = starts[s + 1];
+            if (!(offset > 0)) return start;
+            return offset >= end - start ? end : start + (int) offset;
+        }
+    }
+
+    private final int size;
+    private final long[] keys;
+    private final String[] ids;
+    // levels[0] is the leaf level over keys, the last level has a single segment
+    private final Level[] levels;
+    private final long buildNanos;
+
+    private LearnedIndex(int size, long[] keys, String[] ids, Level[] levels, long buildNanos) {
+        this.size = size;
+        this.keys = keys;
+        this.ids = ids;
+        this.levels = levels;
+        this.buildNanos = buildNanos;
+    }
+
+    public static LearnedIndex build(List<Article> sortedData) {
+        long started = System.nanoTime();
+        int n = sortedData.size();
+        long[] keys = new long[n];
+        int i = 0;
+        for (Article article : sortedData) {
+            keys[i] = ArticleIdColumn.encode(article.getId());
+            if (keys[i] == ArticleIdColumn.NOT_ENCODABLE) {
+                String[] ids = new String[n];
+                int k = 0;
+                for (Article fallback : sortedData) {
+                    ids[k++] = fallback.getId();
+                }
+                return new LearnedIndex(n, null, ids, new Level[0], System.nanoTime() - started);
+            }
+            i++;
+        }
+        return build(keys, started);
+    }
+
+    // Keys must be sorted ascending; exposed for callers that already hold encoded IDs
+    static LearnedIndex build(long[] keys) {
+        return build(keys, System.nanoTime());
+    }
+
+    private static LearnedIndex build(long[] keys, long started) {
+        List<Level> levels = new ArrayList<>();
+        if (keys.length > 0) {
+            Level level = fit(keys, EPSILON);
+            levels.add(level);
+            while (level.segmentCount() > 1) {
+                level = fit(level.firstKeys, INTERNAL_EPSILON);
+                levels.add(level);
+            }
+        }
+        return new LearnedIndex(keys.length, keys, null, levels.toArray(new Level[0]), System.nanoTime() - started);
+    }
+
+    // Greedy shrinking cone over the first position of each distinct key
+    private static Level fit(long[] keys, int epsilon) {
+        int n = keys.length;
+        long[] firstKeys = new long[n];
+        double[] slopes = new double[n];
+        int[] starts = new int[n + 1];
+        int segments = 0;
+
+        int start = 0;
+        double slopeLow = 0;
+        double slopeHigh = Double.POSITIVE_INFINITY;
+        for (int i = 1; i <= n; i++) {
+            if (i < n) {
+                if (keys[i] == keys[i - 1]) continue;
+                double dx = (double) (keys[i] - keys[start]);
+                double dy = i - start;
+                if (dy - epsilon <= slopeHigh * dx && dy + epsilon >= slopeLow * dx) {
+                    slopeLow = Math.max(slopeLow, (dy - epsilon) / dx);
+                    slopeHigh = Math.min(slopeHigh, (dy + epsilon) / dx);
+                    continue;
+                }
+            }
+            firstKeys[segments] = keys[start];
+            slopes[segments] = slopeHigh == Double.POSITIVE_INFINITY ? 0 : (slopeLow + slopeHigh) / 2;
+            starts[segments] = start;
+            segments++;
+            start = i;
+            slopeLow = 0;
+            slopeHigh = Double.POSITIVE_INFINITY;
+        }
+        starts[segments] = n;
+        return new Level(Arrays.copyOf(firstKeys, segments), Arrays.copyOf(slopes, segments),
+            Arrays.copyOf(starts, segments + 1), epsilon);
+    }
+
+    // Returns the sorted position of the key, or -1 if absent (same contract as binarySearch)
+    public int indexOf(String key) {
+        if (size == 0) return -1;
+        if (keys == null) {
+            int index = Arrays.binarySearch(ids, key);
+            return index >= 0 ? index : -1;
+        }
+        long encoded = ArticleIdColumn.encode(key);
+        if (encoded == ArticleIdColumn.NOT_ENCODABLE || encoded < keys[0]) return -1;
+
+        // Walk down from the root: each level narrows the next one's segment to a small window
+        int segment = 0;
+        for (int l = levels.length - 1; l > 0; l--) {
+            Level level = levels[l];
+            long[] below = levels[l - 1].firstKeys;
+            segment = upperBound(below, encoded, level.predict(segment, encoded), level.epsilon) - 1;
+        }
+        int index = lowerBound(keys, encoded, levels[0].predict(segment, encoded), EPSILON);
+        return index < size && keys[index] == encoded ? index : -1;
+    }
+
+    // First index with a[i] >= key, searched within epsilon of the prediction; the whole array if
+    // the window turns out not to bracket the answer (floating-point rounding at the edges)
+    private static int lowerBound(long[] a, long key, int predicted, int epsilon) {
+        int from = Math.max(0, predicted - epsilon - 1);
+        int to = Math.min(a.length, predicted + epsilon + 2);
+        if ((from > 0 && a[from - 1] >= key) || (to < a.length && a[to] < key)) {
+            from = 0;
+            to = a.length;
+        }
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (a[mid] < key) from = mid + 1;
+            else to = mid;
+        }
+        return from;
+    }
+
+    // First index with a[i] > key, same windowing as lowerBound
+    private static int upperBound(long[] a, long key, int predicted, int epsilon) {
+        int from = Math.max(0, predicted - epsilon - 1);
+        int to = Math.min(a.length, predicted + epsilon + 2);
+        if ((from > 0 && a[from - 1] > key) || (to < a.length && a[to] <= key)) {
+            from = 0;
+            to = a.length;
+        }
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (a[mid] <= key) from = mid + 1;
+            else to = mid;
+        }
+        return from;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isLearned() {
+        return keys != null;
+    }
+
+    public int segmentCount() {
+        return levels.length == 0 ? 0 : levels[0].segmentCount();
+    }
+
+    public int levelCount() {
+        return levels.length;
+    }
+
+    // Model only: the segments of every level, not the key array they index
+    public long modelBytes() {
+        long bytes = 0;
+        for (Level level : levels) {
+            bytes += (long) level.segmentCount() * SEGMENT_BYTES;
+        }
+        return bytes;
+    }
+
+    public long buildNanos() {
+        return buildNanos;
+    }
+
+    // e.g. "Learned index: 12 segments in 2 levels, 240 bytes, built in 1.8 ms"
+    public String summary() {
+        if (!isLearned()) return "Learned index: IDs not numeric, using binary search";
+        return String.format("Learned index: %d segments in %d levels, %d bytes, built in %.1f ms",
+            segmentCount(), levelCount(), modelBytes(), buildNanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,15 @@
+import java.util.List;
+
+// Sorted article list that also carries a learned index over its IDs for LearnedIndexSearchAdapter
+public final class LearnedIndexList extends ArticleColumnList {
+    private final LearnedIndex index;
+
+    public LearnedIndexList(List<Article> sortedData) {
+        super(sortedData);
+        this.index = LearnedIndex.build(sortedData);
+    }
+
+    public LearnedIndex index() {
+        return index;
+    }
+}
@@ -0,0 +1,36 @@
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// Per-list indexes for the index-backed adapters, keyed on list identity rather than size, so a
+// list in another order (or another list of the same length) never gets a different list's index.
+// Adapters call get() from prepare() so the build happens outside any timed search; afterwards
+// get() is a lock-free read of a copy-on-write map and only builds for a list never prepared.
+// Past MAX_LISTS lists (e.g. old snapshots of the concurrent store) the cache starts over.
+final class ListIndexCache<I> {
+    private static final int MAX_LISTS = 16;
+
+    private final Function<List<Article>, I> builder;
+    private volatile Map<List<Article>, I> indexes = new IdentityHashMap<>();
+
+    ListIndexCache(Function<List<Article>, I> builder) {
+        this.builder = builder;
+    }
+
+    public I get(List<Article> list) {
+        I index = indexes.get(list);
+        return index != null ? index : build(list);
+    }
+
+    private synchronized I build(List<Article> list) {
+        I index = indexes.get(list);
+        if (index != null) return index;
+        index = builder.apply(list);
+        Map<List<Article>, I> updated =
+            indexes.size() < MAX_LISTS ? new IdentityHashMap<>(indexes) : new IdentityHashMap<>();
+        updated.put(list, index);
+        indexes = updated;
+        return index;
+    }
+}
@@ -0,0 +1,180 @@
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// Sorted, thread-safe article index that keeps growing while CSV files are streamed into it.
+// Lookups never block and see every article ingested so far, so they can be served before
+// an ingestion finishes. An article with an existing ID replaces the older one.
+// Listeners get every batch once it is in the index, e.g. to mirror ingested rows into another store.
+// A tailed file is followed after its current end: rows appended to it are picked up every
+// TAIL_POLL_MILLIS until stopTailing().
+public class LiveArticleIndex {
+    // Articles streamed in per batch, and so per listener call
+    private static final int INGEST_BATCH = 1024;
+    static final long TAIL_POLL_MILLIS = 500;
+
+    private final ConcurrentSkipListMap<String, Article> articles = new ConcurrentSkipListMap<>();
+    private final List<Consumer<List<Article>>> listeners = new CopyOnWriteArrayList<>();
+    private final ExecutorService ingestExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "csv-ingest");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ScheduledExecutorService tailExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "csv-tail");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Followed files by absolute path
+    private final Map<String, TailHandle> tails = new ConcurrentHashMap<>();
+
+    public void addListener(Consumer<List<Article>> listener) {
+        listeners.add(listener);
+    }
+
+    public void add(Article article) {
+        addAll(List.of(article));
+    }
+
+    public void addAll(List<Article> batch) {
+        for (Article article : batch) {
+            articles.put(article.getId(), article);
+        }
+        for (Consumer<List<Article>> listener : listeners) {
+            listener.accept(batch);
+        }
+    }
+
+    // Returns the article with this ID, or null if it has not been ingested (yet)
+    public Article find(String id) {
+        return id == null ? null : articles.get(id);
+    }
+
+    public int size() {
+        return articles.size();
+    }
+
+    // Sorted copy of everything ingested so far
+    public List<Article> snapshot() {
+        return new ArrayList<>(articles.values());
+    }
+
+    // Drains the stream into the index in the background; completes with the number of articles added
+    public CompletableFuture<Integer> ingest(Stream<Article> stream) {
+        return CompletableFuture.supplyAsync(() -> {
+            int count = 0;
+            List<Article> batch = new ArrayList<>(INGEST_BATCH);
+            try (stream) {
+                for (Article article : (Iterable<Article>) stream::iterator) {
+                    batch.add(article);
+                    count++;
+                    if (batch.size() == INGEST_BATCH) {
+                        addAll(batch);
+                        batch = new ArrayList<>(INGEST_BATCH);
+                    }
+                }
+            }
+            if (!batch.isEmpty()) addAll(batch);
+            return count;
+        }, ingestExecutor);
+    }
+
+    // Streams another CSV file into the running index without reloading what is already there
+    public CompletableFuture<Integer> ingestFile(String filename) {
+        try {
+            return ingest(CSVReader.streamCSV(filename));
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // Ingests the file and keeps following it; false if it is already being followed. The file is
+    // registered before its first poll, so a failing poll always finds its handle to report and stop.
+    public boolean tail(String filename) throws IOException {
+        String key = keyFor(filename);
+        if (tails.containsKey(key)) return false;
+        TailHandle handle = new TailHandle(CSVReader.tailCSV(filename));
+        if (tails.putIfAbsent(key, handle) != null) {
+            handle.stop();
+            return false;
+        }
+        handle.start(tailExecutor.scheduleWithFixedDelay(() -> {
+            try {
+                List<Article> appended = handle.tail.poll();
+                for (int from = 0; from < appended.size(); from += INGEST_BATCH) {
+                    addAll(appended.subList(from, Math.min(appended.size(), from + INGEST_BATCH)));
+                }
+            } catch (IOException e) {
+                // Not reported when stopTailing() closed the file under a running poll
+                if (tails.remove(key, handle)) {
+                    handle.stop();
+                    System.err.println("\nStopped following " + filename + ": " + e.getMessage());
+                }
+            }
+        }, 0, TAIL_POLL_MILLIS, TimeUnit.MILLISECONDS));
+        return true;
+    }
+
+    public boolean isTailing(String filename) {
+        return tails.containsKey(keyFor(filename));
+    }
+
+    // Stops following the file; rows already ingested stay in the index
+    public boolean stopTailing(String filename) {
+        TailHandle handle = tails.remove(keyFor(filename));
+        if (handle == null) return false;
+        handle.stop();
+        return true;
+    }
+
+    private static String keyFor(String filename) {
+        return Paths.get(filename).toAbsolutePath().normalize().toString();
+    }
+
+    public void shutdown() {
+        ingestExecutor.shutdownNow();
+        tails.values().forEach(TailHandle::stop);
+        tails.clear();
+        tailExecutor.shutdownNow();
+    }
+
+    // A followed file and its polling; stop() may come before start() when the first poll fails fast
+    private static final class TailHandle {
+        private final CSVReader.Tail tail;
+        private ScheduledFuture<?> polling;
+        private boolean stopped;
+
+        TailHandle(CSVReader.Tail tail) {
+            this.tail = tail;
+        }
+
+        synchronized void start(ScheduledFuture<?> polling) {
+            this.polling = polling;
+            if (stopped) polling.cancel(false);
+        }
+
+        synchronized void stop() {
+            if (stopped) return;
+            stopped = true;
+            if (polling != null) polling.cancel(false);
+            try {
+                tail.close();
+            } catch (IOException e) {
+                System.err.println("Error closing tailed file: " + e.getMessage());
+            }
+        }
+    }
+}
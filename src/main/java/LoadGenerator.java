@@ -0,0 +1,289 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.LockSupport;
+
+// Sustained load against one algorithm / data structure pair, for a fixed time or operation count.
+// Closed loop: every thread issues its next lookup as soon as the previous one returns, so the
+// offered load adapts to the service time. Open loop: lookups are scheduled at a fixed total rate
+// whether or not earlier ones have finished. Their latency is measured from the scheduled start,
+// not the actual one, so a stall also counts against the lookups queued behind it (the
+// coordinated-omission correction); the uncorrected service time is reported next to it.
+// Latencies are kept for the whole run and per time window, each in a LatencyRecorder.
+public final class LoadGenerator {
+    public enum Schedule { CLOSED_LOOP, OPEN_LOOP }
+
+    public enum KeyDistribution { UNIFORM, ZIPFIAN, HOTSPOT }
+
+    // Zipfian skew as in YCSB
+    static final double ZIPF_THETA = 0.99;
+    // Hotspot: HOT_OP_FRACTION of the lookups go to the first HOT_KEY_FRACTION of the keys
+    static final double HOT_KEY_FRACTION = 0.2;
+    static final double HOT_OP_FRACTION = 0.8;
+    // Waits longer than this are parked, shorter ones spun
+    private static final long SPIN_NANOS = 50_000;
+
+    private final SearchAlgorithm<Article> algorithm;
+    private final List<Article> list;
+    private final String[] keys;
+
+    // keys are shuffled once, so the popular keys of a skewed distribution sit anywhere in the list
+    public LoadGenerator(SearchAlgorithm<Article> algorithm, List<Article> list, List<String> keys, long seed) {
+        if (keys.isEmpty()) throw new IllegalArgumentException("No keys to look up");
+        this.algorithm = algorithm;
+        this.list = list;
+        this.keys = keys.toArray(new String[0]);
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = this.keys.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            String swap = this.keys[i];
+            this.keys[i] = this.keys[j];
+            this.keys[j] = swap;
+        }
+    }
+
+    // Runs until durationNanos has passed or operations lookups are done, whichever comes first
+    // (0 for no limit, but not both). ratePerSecond is the total arrival rate of the open loop.
+    public Result run(int threads, Schedule schedule, double ratePerSecond, KeyDistribution distribution,
+                      long durationNanos, long operations, long windowNanos) {
+        if (threads < 1) throw new IllegalArgumentException("threads must be at least 1");
+        if (durationNanos <= 0 && operations <= 0) throw new IllegalArgumentException("Set a duration or an operation count");
+        if (schedule == Schedule.OPEN_LOOP && !(ratePerSecond > 0)) throw new IllegalArgumentException("Open loop needs a positive rate");
+
+        KeyChooser chooser = new KeyChooser(distribution, keys.length);
+        Result result = new Result(schedule, distribution, threads, ratePerSecond, windowNanos);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        // Every worker measures from the same start, a little ahead so they are all running by then
+        long start = System.nanoTime() + 10_000_000L;
+        long end = durationNanos > 0 ? start + durationNanos : Long.MAX_VALUE;
+        for (int t = 0; t < threads; t++) {
+            long share = operations <= 0 ? Long.MAX_VALUE : operations / threads + (t < operations % threads ? 1 : 0);
+            SplittableRandom random = new SplittableRandom(31L * t + keys.length);
+            // Open-loop threads each take every threads-th slot of the schedule
+            long interval = schedule == Schedule.OPEN_LOOP ? Math.max(1, Math.round(threads * 1e9 / ratePerSecond)) : 0;
+            long firstSlot = start + (schedule == Schedule.OPEN_LOOP ? Math.round(t * 1e9 / ratePerSecond) : 0);
+            futures.add(executor.submit(() -> drive(result, chooser, random, start, firstSlot, interval, end, share)));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                System.err.println("Load test interrupted: " + e.getMessage());
+                Thread.currentThread().interrupt();
+            } catch (java.util.concurrent.ExecutionException e) {
+                System.err.println("Load test error: " + e.getMessage());
+            }
+        }
+        executor.shutdown();
+        result.elapsedNanos = result.lastCompletion - start;
+        return result;
+    }
+
+    private void drive(Result result, KeyChooser chooser, SplittableRandom random, long start, long firstSlot,
+                       long interval, long end, long operations) {
+        long found = 0;
+        long done = 0;
+        long lastCompletion = firstSlot;
+        waitUntil(firstSlot);
+        long scheduled = firstSlot;
+        while (done < operations) {
+            long startTime;
+            if (interval > 0) {
+                if (scheduled >= end) break;
+                waitUntil(scheduled);
+                startTime = System.nanoTime();
+            } else {
+                startTime = System.nanoTime();
+                if (startTime >= end) break;
+                scheduled = startTime;
+            }
+            String key = keys[chooser.next(random)];
+            boolean hit = false;
+            try {
+                hit = algorithm.search(list, key) != -1;
+            } catch (Exception e) {
+                System.err.println("Error in " + algorithm.getName() + ": " + e.getMessage());
+            }
+            long endTime = System.nanoTime();
+            result.record(scheduled, startTime, endTime, start);
+            if (hit) found++;
+            done++;
+            lastCompletion = endTime;
+            scheduled += interval;
+        }
+        result.finish(done, found, lastCompletion);
+    }
+
+    private static void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (remaining > SPIN_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    // Index into the key array per distribution; shared by all workers, each passing its own random
+    static final class KeyChooser {
+        private final KeyDistribution distribution;
+        private final int n;
+        // Zipfian constants (Gray et al., "Quickly generating billion-record synthetic databases")
+        private final double zetaN;
+        private final double alpha;
+        private final double eta;
+        private final double halfPowTheta;
+
+        KeyChooser(KeyDistribution distribution, int n) {
+            this.distribution = distribution;
+            this.n = n;
+            if (distribution == KeyDistribution.ZIPFIAN) {
+                double zeta = 0;
+                for (int i = 1; i <= n; i++) zeta += 1 / Math.pow(i, ZIPF_THETA);
+                double zeta2 = 1 + 1 / Math.pow(2, ZIPF_THETA);
+                zetaN = zeta;
+                alpha = 1 / (1 - ZIPF_THETA);
+                eta = (1 - Math.pow(2.0 / n, 1 - ZIPF_THETA)) / (1 - zeta2 / zeta);
+                halfPowTheta = Math.pow(0.5, ZIPF_THETA);
+            } else {
+                zetaN = alpha = eta = halfPowTheta = 0;
+            }
+        }
+
+        int next(SplittableRandom random) {
+            switch (distribution) {
+                case ZIPFIAN -> {
+                    double u = random.nextDouble();
+                    double uz = u * zetaN;
+                    if (uz < 1) return 0;
+                    if (uz < 1 + halfPowTheta) return Math.min(1, n - 1);
+                    return Math.min(n - 1, (int) (n * Math.pow(eta * u - eta + 1, alpha)));
+                }
+                case HOTSPOT -> {
+                    int hot = Math.max(1, (int) (n * HOT_KEY_FRACTION));
+                    if (hot == n || random.nextDouble() < HOT_OP_FRACTION) return random.nextInt(hot);
+                    return hot + random.nextInt(n - hot);
+                }
+                default -> {
+                    return random.nextInt(n);
+                }
+            }
+        }
+    }
+
+    // Totals and per-window latencies of one run; read after run() returns
+    public static final class Result {
+        private final Schedule schedule;
+        private final KeyDistribution distribution;
+        private final int threads;
+        private final double ratePerSecond;
+        private final long windowNanos;
+        // Response time: from the scheduled start (equals the service time in the closed loop)
+        private final LatencyRecorder responseTimes = new LatencyRecorder();
+        private final LatencyRecorder serviceTimes = new LatencyRecorder();
+        // Response times by completion window; grown under the lock, read without it
+        private volatile LatencyRecorder[] windows = new LatencyRecorder[0];
+        private long operations;
+        private long found;
+        private long lastCompletion;
+        private long elapsedNanos;
+
+        Result(Schedule schedule, KeyDistribution distribution, int threads, double ratePerSecond, long windowNanos) {
+            this.schedule = schedule;
+            this.distribution = distribution;
+            this.threads = threads;
+            this.ratePerSecond = ratePerSecond;
+            this.windowNanos = windowNanos;
+        }
+
+        void record(long scheduled, long startTime, long endTime, long start) {
+            long response = endTime - scheduled;
+            responseTimes.record(response);
+            serviceTimes.record(endTime - startTime);
+            window((int) Math.max(0, (endTime - start) / windowNanos)).record(response);
+        }
+
+        private LatencyRecorder window(int index) {
+            LatencyRecorder[] current = windows;
+            return index < current.length ? current[index] : growWindows(index);
+        }
+
+        private synchronized LatencyRecorder growWindows(int index) {
+            LatencyRecorder[] current = windows;
+            if (index < current.length) return current[index];
+            LatencyRecorder[] grown = Arrays.copyOf(current, Math.max(index + 1, current.length * 2));
+            for (int i = current.length; i < grown.length; i++) grown[i] = new LatencyRecorder();
+            windows = grown;
+            return grown[index];
+        }
+
+        synchronized void finish(long operations, long found, long lastCompletion) {
+            this.operations += operations;
+            this.found += found;
+            this.lastCompletion = Math.max(this.lastCompletion, lastCompletion);
+        }
+
+        public long getOperations() { return operations; }
+        public long getFoundCount() { return found; }
+        public long getElapsedNanos() { return elapsedNanos; }
+        public LatencyRecorder getResponseTimes() { return responseTimes; }
+        public LatencyRecorder getServiceTimes() { return serviceTimes; }
+        public long getWindowNanos() { return windowNanos; }
+
+        public double getThroughput() {
+            return elapsedNanos <= 0 ? 0 : operations * 1e9 / elapsedNanos;
+        }
+
+        // Windows up to the last one that saw a completion
+        public List<LatencyRecorder> getWindows() {
+            List<LatencyRecorder> used = new ArrayList<>();
+            for (LatencyRecorder window : windows) used.add(window);
+            while (!used.isEmpty() && used.get(used.size() - 1).count() == 0) used.remove(used.size() - 1);
+            return used;
+        }
+
+        public void print(String label) {
+            System.out.println("\n--- Load Test: " + label + " ---");
+            System.out.printf("%s, %s keys, %d thread(s)%s%n",
+                schedule == Schedule.OPEN_LOOP ? "Open loop" : "Closed loop",
+                distribution.name().toLowerCase(), threads,
+                schedule == Schedule.OPEN_LOOP ? String.format(", target %.0f ops/s", ratePerSecond) : "");
+            System.out.printf("%d lookups (%d found) in %.3f s: %.0f ops/s%n",
+                operations, found, elapsedNanos / 1e9, getThroughput());
+
+            System.out.printf("%n%-16s %-11s %-11s %-11s %-11s %-11s %-11s %-11s%n",
+                "Latency(ms)", "Min", "p50", "p90", "p99", "p99.9", "Max", "Mean");
+            System.out.println("=".repeat(100));
+            printRow("Response", responseTimes);
+            if (schedule == Schedule.OPEN_LOOP) printRow("Service", serviceTimes);
+
+            System.out.printf("%n%-12s %-10s %-12s %-11s %-11s %-11s %-11s%n",
+                "Window(s)", "Lookups", "Ops/s", "p50(ms)", "p99(ms)", "p99.9(ms)", "Max(ms)");
+            System.out.println("=".repeat(84));
+            List<LatencyRecorder> used = getWindows();
+            for (int i = 0; i < used.size(); i++) {
+                LatencyRecorder window = used.get(i);
+                // The last window may be cut short by the end of the run
+                long span = Math.min(windowNanos, elapsedNanos - i * windowNanos);
+                long[] p = window.percentiles(50, 99, 99.9);
+                System.out.printf("%-12s %-10d %-12.0f %-11.4f %-11.4f %-11.4f %-11.4f%n",
+                    String.format("%.1f-%.1f", i * windowNanos / 1e9, (i * windowNanos + span) / 1e9),
+                    window.count(), span <= 0 ? 0 : window.count() * 1e9 / span,
+                    p[0] / 1e6, p[1] / 1e6, p[2] / 1e6, window.max() / 1e6);
+            }
+        }
+
+        private static void printRow(String name, LatencyRecorder recorder) {
+            long[] p = recorder.percentiles(50, 90, 99, 99.9);
+            System.out.printf("%-16s %-11.4f %-11.4f %-11.4f %-11.4f %-11.4f %-11.4f %-11.4f%n",
+                name, recorder.min() / 1e6, p[0] / 1e6, p[1] / 1e6, p[2] / 1e6, p[3] / 1e6,
+                recorder.max() / 1e6, recorder.mean() / 1e6);
+        }
+    }
+}
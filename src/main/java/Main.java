@@ -1,12 +1,21 @@
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -14,9 +23,11 @@ import java.util.Random;
 import java.util.Scanner;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.swing.JFrame;
 
@@ -29,6 +40,47 @@ interface SearchAlgorithm<T> {
     int search(List<T> list, String key);
     String getName();
     String getComplexity();
+
+    // Search within [fromIndex, toIndex) of the list; the result is an index into the whole list.
+    // Default: whole-list lookup, kept only if it lands in range (fine for unique IDs)
+    default int search(List<T> list, String key, int fromIndex, int toIndex) {
+        int index = search(list, key);
+        return index >= fromIndex && index < toIndex ? index : -1;
+    }
+
+    // Called with each list before it is searched, outside any timing; index-backed algorithms
+    // build their index for that list here
+    default void prepare(List<T> list) {}
+
+    // True when search() answers from an index built in prepare() instead of probing the list
+    default boolean usesIndex() { return false; }
+
+    // Row label on a structure: index-backed algorithms are labelled as lookups in that structure's index
+    default String labelFor(String structure) {
+        return getName() + " - " + (usesIndex() ? "Index on " + structure : structure);
+    }
+
+    // Prepares every algorithm for each provider's current list and returns those lists in provider
+    // order; cheap once a list is prepared. Races search the returned lists, not getList() again, so a
+    // provider that hands out a new snapshot per call (the concurrent store) is timed on what was prepared.
+    static <T> List<List<T>> prepareAll(List<SearchAlgorithm<T>> algorithms, List<DataStructureProvider<T>> providers) {
+        List<List<T>> lists = new ArrayList<>(providers.size());
+        for (DataStructureProvider<T> provider : providers) lists.add(provider.getList());
+        for (SearchAlgorithm<T> algorithm : algorithms) {
+            for (List<T> list : lists) algorithm.prepare(list);
+        }
+        return lists;
+    }
+
+    // Looks up every key; results[i] is the index of the i-th key in iteration order, or -1
+    default int[] searchAll(List<T> list, Collection<String> keys) {
+        int[] results = new int[keys.size()];
+        int i = 0;
+        for (String key : keys) {
+            results[i++] = search(list, key);
+        }
+        return results;
+    }
 }
 
 interface DataStructureProvider<T> {
@@ -40,11 +92,38 @@ interface DataStructureProvider<T> {
 interface PerformanceAnalyzer {
     Map<String, AlgorithmStats> runPerformanceTest(List<DataStructureProvider<Article>> dataProviders, 
                                 List<SearchAlgorithm<Article>> algorithms, List<String> testKeys);
+    Map<String, AlgorithmStats> runPerformanceTest(List<DataStructureProvider<Article>> dataProviders,
+                                List<SearchAlgorithm<Article>> algorithms, List<String> testKeys, RaceMode mode);
     void analyzeResults(Map<String, AlgorithmStats> results);
+    void analyzeInterference(Map<RaceMode, Map<String, AlgorithmStats>> results);
+}
+
+// How a race schedules its algorithm / data structure combinations
+enum RaceMode {
+    // One combination at a time on the calling thread, all its keys before the next: the baseline
+    SEQUENTIAL("Isolated"),
+    // One search at a time on the calling thread, combinations in random order: no concurrency,
+    // but each search runs after other combinations have churned the caches
+    RANDOMIZED("Randomized"),
+    // Every key x combination task at once on the shared executor, as the original race did
+    SHARED_POOL("Shared pool"),
+    // A thread of its own per combination, all started together
+    DEDICATED_THREAD("Dedicated");
+
+    private final String label;
+
+    RaceMode(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
 }
 
 interface ChartGenerator {
     void generateAllCharts(Map<String, AlgorithmStats> performanceData, int dataSize);
+    void generateScalabilityCharts(ScalabilitySweep.Result sweep);
     void showChart(JFreeChart chart, String title);
 }
 
@@ -53,6 +132,12 @@ interface UserInterface {
     int getMenuChoice();
     void handleArticleSearch(List<DataStructureProvider<Article>> dataProviders, 
                             List<SearchAlgorithm<Article>> algorithms);
+    void handleKeywordSearch(InvertedIndex index, BM25Ranker ranker, List<Article> articles,
+                             AlgorithmStats keywordStats);
+    void handleCategoryFilter(CategoryIndex categories, InvertedIndex index, List<Article> articles);
+    void handleRangeQuery(List<DataStructureProvider<Article>> dataProviders);
+    void handleLoadTest(List<DataStructureProvider<Article>> dataProviders,
+                        List<SearchAlgorithm<Article>> algorithms, List<Article> sortedData);
 }
 
 // Search algorithm implementations using SearchAlgorithms class
@@ -62,6 +147,14 @@ class LinearSearchAdapter implements SearchAlgorithm<Article> {
         return SearchAlgorithms.linearSearch(list, key);
     }
     @Override
+    public int search(List<Article> list, String key, int fromIndex, int toIndex) {
+        return SearchAlgorithms.linearSearch(list, key, fromIndex, toIndex);
+    }
+    @Override
+    public int[] searchAll(List<Article> list, Collection<String> keys) {
+        return SearchAlgorithms.linearSearchAll(list, keys);
+    }
+    @Override
     public String getName() { return "Linear Search"; }
 
     @Override
@@ -74,6 +167,14 @@ class BinarySearchAdapter implements SearchAlgorithm<Article> {
         return SearchAlgorithms.binarySearch(list, key);
     }
     @Override
+    public int search(List<Article> list, String key, int fromIndex, int toIndex) {
+        return SearchAlgorithms.binarySearch(list, key, fromIndex, toIndex);
+    }
+    @Override
+    public int[] searchAll(List<Article> list, Collection<String> keys) {
+        return SearchAlgorithms.binarySearchAll(list, keys);
+    }
+    @Override
     public String getName() { return "Binary Search"; }
     
     @Override
@@ -86,6 +187,14 @@ class JumpSearchAdapter implements SearchAlgorithm<Article> {
         return SearchAlgorithms.jumpSearch(list, key);
     }
     @Override
+    public int search(List<Article> list, String key, int fromIndex, int toIndex) {
+        return SearchAlgorithms.jumpSearch(list, key, fromIndex, toIndex);
+    }
+    @Override
+    public int[] searchAll(List<Article> list, Collection<String> keys) {
+        return SearchAlgorithms.jumpSearchAll(list, keys);
+    }
+    @Override
     public String getName() { return "Jump Search"; }
     
     @Override
@@ -98,12 +207,225 @@ class ExponentialSearchAdapter implements SearchAlgorithm<Article> {
         return SearchAlgorithms.exponentialSearch(list, key);
     }
     @Override
+    public int search(List<Article> list, String key, int fromIndex, int toIndex) {
+        return SearchAlgorithms.exponentialSearch(list, key, fromIndex, toIndex);
+    }
+    @Override
+    public int[] searchAll(List<Article> list, Collection<String> keys) {
+        return SearchAlgorithms.exponentialSearchAll(list, keys);
+    }
+    @Override
     public String getName() { return "Exponential Search"; }
     
     @Override
     public String getComplexity() { return "O(log n)"; }
 }
 
+class ParallelLinearSearchAdapter implements SearchAlgorithm<Article> {
+    private final ParallelLinearSearch search = ParallelLinearSearch.common();
+
+    @Override
+    public int search(List<Article> list, String key) {
+        return search.search(list, key);
+    }
+    @Override
+    public int search(List<Article> list, String key, int fromIndex, int toIndex) {
+        return search.search(list, key, fromIndex, toIndex);
+    }
+    @Override
+    public String getName() { return "Parallel Linear Search"; }
+
+    @Override
+    public String getComplexity() { return "O(n / p)"; }
+}
+
+class VectorLinearSearchAdapter implements SearchAlgorithm<Article> {
+    static final String SCALAR_FALLBACK = "Scalar fallback on ";
+
+    // Only the ID column is scanned in vectors, and only with the Vector API present; anywhere else
+    // the row times the scalar search, so it is labelled as such
+    static String vectorLabel(SearchAlgorithm<Article> algorithm, String structure) {
+        boolean vectorized = structure.equals(IdColumnProvider.NAME) && SearchAlgorithms.isVectorScanAvailable();
+        return algorithm.getName() + " - " + (vectorized ? structure : SCALAR_FALLBACK + structure);
+    }
+
+    @Override
+    public int search(List<Article> list, String key) {
+        return SearchAlgorithms.vectorLinearSearch(list, key);
+    }
+    @Override
+    public int search(List<Article> list, String key, int fromIndex, int toIndex) {
+        return SearchAlgorithms.vectorLinearSearch(list, key, fromIndex, toIndex);
+    }
+    @Override
+    public String getName() { return "SIMD Linear Search"; }
+
+    @Override
+    public String labelFor(String structure) { return vectorLabel(this, structure); }
+
+    @Override
+    public String getComplexity() { return "O(n / lanes)"; }
+}
+
+class VectorJumpSearchAdapter implements SearchAlgorithm<Article> {
+    @Override
+    public int search(List<Article> list, String key) {
+        return SearchAlgorithms.vectorJumpSearch(list, key);
+    }
+    @Override
+    public int search(List<Article> list, String key, int fromIndex, int toIndex) {
+        return SearchAlgorithms.vectorJumpSearch(list, key, fromIndex, toIndex);
+    }
+    @Override
+    public String getName() { return "SIMD Jump Search"; }
+
+    @Override
+    public String labelFor(String structure) { return VectorLinearSearchAdapter.vectorLabel(this, structure); }
+
+    @Override
+    public String getComplexity() { return "O(√n)"; }
+}
+
+class HashIndexSearchAdapter implements SearchAlgorithm<Article> {
+    private final ListIndexCache<ArticleIdIndex> indexes = new ListIndexCache<>(ArticleIdIndex::build);
+
+    @Override
+    public void prepare(List<Article> list) {
+        indexes.get(list);
+    }
+
+    // Answers from the hash index built over this list; the list itself is never probed
+    @Override
+    public int search(List<Article> list, String key) {
+        return indexes.get(list).indexOf(key);
+    }
+
+    @Override
+    public boolean usesIndex() { return true; }
+
+    @Override
+    public String getName() { return "Hash Index Search"; }
+
+    @Override
+    public String getComplexity() { return "O(1)"; }
+}
+
+class EytzingerSearchAdapter implements SearchAlgorithm<Article> {
+    private final ListIndexCache<EytzingerLayout> layouts = new ListIndexCache<>(EytzingerLayout::build);
+
+    @Override
+    public void prepare(List<Article> list) {
+        if (!(list instanceof EytzingerList)) layouts.get(list);
+    }
+
+    // Uses the provider's own layout when present, otherwise one built over this list
+    @Override
+    public int search(List<Article> list, String key) {
+        if (list instanceof EytzingerList eytzingerList) {
+            return eytzingerList.layout().indexOf(key);
+        }
+        return layouts.get(list).indexOf(key);
+    }
+
+    @Override
+    public boolean usesIndex() { return true; }
+
+    @Override
+    public String getName() { return "Eytzinger Search"; }
+
+    @Override
+    public String getComplexity() { return "O(log n)"; }
+}
+
+class LearnedIndexSearchAdapter implements SearchAlgorithm<Article> {
+    private final ListIndexCache<LearnedIndex> models = new ListIndexCache<>(LearnedIndex::build);
+
+    @Override
+    public void prepare(List<Article> list) {
+        if (!(list instanceof LearnedIndexList)) models.get(list);
+    }
+
+    // Uses the provider's own model when present, otherwise one built over this list
+    @Override
+    public int search(List<Article> list, String key) {
+        return model(list).indexOf(key);
+    }
+
+    private LearnedIndex model(List<Article> list) {
+        return list instanceof LearnedIndexList learnedList ? learnedList.index() : models.get(list);
+    }
+
+    public String summary(List<Article> list) {
+        return model(list).summary();
+    }
+
+    @Override
+    public boolean usesIndex() { return true; }
+
+    @Override
+    public String getName() { return "Learned Index Search"; }
+
+    @Override
+    public String getComplexity() { return "O(log ε)"; }
+}
+
+class InterpolationSearchAdapter implements SearchAlgorithm<Article> {
+    @Override
+    public int search(List<Article> list, String key) {
+        return SearchAlgorithms.interpolationSearch(list, key);
+    }
+    @Override
+    public int search(List<Article> list, String key, int fromIndex, int toIndex) {
+        return SearchAlgorithms.interpolationSearch(list, key, fromIndex, toIndex);
+    }
+    @Override
+    public String getName() { return "Interpolation Search"; }
+
+    @Override
+    public String getComplexity() { return "O(log log n)"; }
+}
+
+class InterpolationSequentialSearchAdapter implements SearchAlgorithm<Article> {
+    @Override
+    public int search(List<Article> list, String key) {
+        return SearchAlgorithms.interpolationSequentialSearch(list, key);
+    }
+    @Override
+    public int search(List<Article> list, String key, int fromIndex, int toIndex) {
+        return SearchAlgorithms.interpolationSequentialSearch(list, key, fromIndex, toIndex);
+    }
+    @Override
+    public String getName() { return "Interpolation-Sequential Search"; }
+
+    @Override
+    public String getComplexity() { return "O(√n)"; }
+}
+
+class AdaptiveSearchAdapter implements SearchAlgorithm<Article> {
+    private final ListIndexCache<AdaptiveSearchEngine> engines = new ListIndexCache<>(AdaptiveSearchEngine::build);
+
+    @Override
+    public void prepare(List<Article> list) {
+        engines.get(list);
+    }
+
+    // Strategies are sampled from the same list the search then probes
+    @Override
+    public int search(List<Article> list, String key) {
+        return engines.get(list).search(list, key);
+    }
+
+    public String summary(List<Article> list) {
+        return engines.get(list).summary();
+    }
+
+    @Override
+    public String getName() { return "Adaptive Search"; }
+
+    @Override
+    public String getComplexity() { return "O(log log n) - O(log n)"; }
+}
+
 // Data structure provider implementations
 class ArrayListProvider<T> implements DataStructureProvider<T> {
     private final List<T> list;
@@ -136,22 +458,130 @@ class LinkedListProvider<T> implements DataStructureProvider<T> {
     public boolean isOptimalForRandomAccess() { return false; }
 }
 
+class SkipListProvider implements DataStructureProvider<Article> {
+    private final SkipLinkedList list;
+
+    public SkipListProvider(List<Article> sourceData) {
+        this.list = new SkipLinkedList(sourceData);
+    }
+    @Override
+    public List<Article> getList() { return list; }
+
+    @Override
+    public String getName() { return "Skip List"; }
+
+    // Linked nodes, but skip lanes make get(i) O(log n)
+    @Override
+    public boolean isOptimalForRandomAccess() { return true; }
+}
+
+class IdColumnProvider implements DataStructureProvider<Article> {
+    static final String NAME = "ID Column";
+    private final ArticleColumnList list;
+
+    public IdColumnProvider(List<Article> sourceData) {
+        this.list = new ArticleColumnList(sourceData);
+    }
+    @Override
+    public List<Article> getList() { return list; }
+
+    @Override
+    public String getName() { return NAME; }
+
+    @Override
+    public boolean isOptimalForRandomAccess() { return true; }
+}
+
+class EytzingerProvider implements DataStructureProvider<Article> {
+    private final EytzingerList list;
+
+    public EytzingerProvider(List<Article> sourceData) {
+        this.list = new EytzingerList(sourceData);
+    }
+    @Override
+    public List<Article> getList() { return list; }
+
+    @Override
+    public String getName() { return "Eytzinger"; }
+
+    @Override
+    public boolean isOptimalForRandomAccess() { return true; }
+}
+
+class LearnedIndexProvider implements DataStructureProvider<Article> {
+    private final LearnedIndexList list;
+
+    public LearnedIndexProvider(List<Article> sourceData) {
+        this.list = new LearnedIndexList(sourceData);
+    }
+    @Override
+    public List<Article> getList() { return list; }
+
+    @Override
+    public String getName() { return "Learned Index"; }
+
+    @Override
+    public boolean isOptimalForRandomAccess() { return true; }
+}
+
+class ConcurrentStoreProvider implements DataStructureProvider<Article> {
+    private final ConcurrentArticleStore store;
+
+    public ConcurrentStoreProvider(List<Article> sourceData) {
+        this.store = new ConcurrentArticleStore(sourceData);
+    }
+    // Each call returns the current immutable snapshot, safe to search while writers update the store
+    @Override
+    public List<Article> getList() { return store.snapshot(); }
+
+    @Override
+    public String getName() { return "Concurrent Store"; }
+
+    @Override
+    public boolean isOptimalForRandomAccess() { return true; }
+
+    public ConcurrentArticleStore getStore() { return store; }
+}
+
 // Performance analyzer implementation
 class ConcurrentPerformanceAnalyzer implements PerformanceAnalyzer {
     private static final int NUM_RUNS = 30;
+    // Fixed so that randomized races are repeatable
+    private static final long INTERLEAVING_SEED = 214;
+    private ExecutionStrategy strategy;
+    // Submit-to-start delay of every task in the last run, and that run's wall time
+    private LatencyRecorder dispatchLatency = new LatencyRecorder();
+    private long lastWallNanos;
+
+    public ConcurrentPerformanceAnalyzer() {
+        this(ExecutionStrategy.platformPool(Runtime.getRuntime().availableProcessors()));
+    }
+
+    public ConcurrentPerformanceAnalyzer(ExecutionStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    public ExecutionStrategy getExecutionStrategy() { return strategy; }
+    public void setExecutionStrategy(ExecutionStrategy strategy) { this.strategy = strategy; }
+    public LatencyRecorder getDispatchLatency() { return dispatchLatency; }
+    public long getLastWallNanos() { return lastWallNanos; }
     
     @Override
     public Map<String, AlgorithmStats> runPerformanceTest(List<DataStructureProvider<Article>> dataProviders,
                                 List<SearchAlgorithm<Article>> algorithms, List<String> testKeys) {
-        System.out.println("\nSearch Algorithms Race(" + NUM_RUNS + " Runs - All 8 Algorithms) ===");
+        System.out.println("\nSearch Algorithms Race(" + NUM_RUNS + " Runs - All " + 
+            (dataProviders.size() * algorithms.size()) + " Algorithms - " + strategy.getName() + ") ===");
+        List<List<Article>> lists = SearchAlgorithm.prepareAll(algorithms, dataProviders);
         Map<String, AlgorithmStats> statsMap = new ConcurrentHashMap<>();
-        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        LatencyRecorder dispatch = new LatencyRecorder();
+        long wallStart = System.nanoTime();
+        ExecutorService executor = strategy.acquire();
         List<Future<?>> futures = new ArrayList<>();
         
         // Initialize stats for all combinations
         for (DataStructureProvider<Article> provider : dataProviders) {
             for (SearchAlgorithm<Article> algorithm : algorithms) {
-                String key = algorithm.getName() + " - " + provider.getName();
+                String key = algorithm.labelFor(provider.getName());
                 statsMap.put(key, new AlgorithmStats());
             }
         }
@@ -159,25 +589,16 @@ class ConcurrentPerformanceAnalyzer implements PerformanceAnalyzer {
         // Run performance tests
         for (int run = 0; run < testKeys.size() && run < NUM_RUNS; run++) {
             final String currentKey = testKeys.get(run);
-            final int currentRun = run;
             
-            for (DataStructureProvider<Article> provider : dataProviders) {
+            for (int p = 0; p < dataProviders.size(); p++) {
+                List<Article> list = lists.get(p);
                 for (SearchAlgorithm<Article> algorithm : algorithms) {
+                    final long submitted = System.nanoTime();
+                    String statsKey = algorithm.labelFor(dataProviders.get(p).getName());
+                    AlgorithmStats stats = statsMap.get(statsKey);
                     futures.add(executor.submit(() -> {
-                        String statsKey = algorithm.getName() + " - " + provider.getName();
-                        long startTime = System.nanoTime();
-                        boolean found = false;
-                        
-                        try {
-                            int result = algorithm.search(provider.getList(), currentKey);
-                            found = result != -1;
-                        } 
-                        catch (Exception e) {
-                            System.err.println("Error in " + statsKey + ": " + e.getMessage());
-                        }
-                        long endTime = System.nanoTime();
-                        double timeTaken = (endTime - startTime) / 1_000_000.0; // milliseconds
-                        statsMap.get(statsKey).addResult(timeTaken, found, currentRun);
+                        dispatch.record(System.nanoTime() - submitted);
+                        timeSearch(algorithm, list, statsKey, currentKey, stats);
                     }));
                 }
             }
@@ -196,41 +617,206 @@ class ConcurrentPerformanceAnalyzer implements PerformanceAnalyzer {
                 System.err.println("Execution error: " + e.getMessage());
             }
         }
-        executor.shutdown();
+        strategy.release(executor);
+        lastWallNanos = System.nanoTime() - wallStart;
+        dispatchLatency = dispatch;
+        return statsMap;
+    }
+
+    @Override
+    public Map<String, AlgorithmStats> runPerformanceTest(List<DataStructureProvider<Article>> dataProviders,
+                                List<SearchAlgorithm<Article>> algorithms, List<String> testKeys, RaceMode mode) {
+        if (mode == RaceMode.SHARED_POOL) return runPerformanceTest(dataProviders, algorithms, testKeys);
+        System.out.println("\nSearch Algorithms Race(" + NUM_RUNS + " Runs - All " +
+            (dataProviders.size() * algorithms.size()) + " Algorithms - " + mode.getLabel() + ") ===");
+        List<List<Article>> lists = SearchAlgorithm.prepareAll(algorithms, dataProviders);
+        Map<String, AlgorithmStats> statsMap = new ConcurrentHashMap<>();
+        for (DataStructureProvider<Article> provider : dataProviders) {
+            for (SearchAlgorithm<Article> algorithm : algorithms) {
+                statsMap.put(algorithm.labelFor(provider.getName()), new AlgorithmStats());
+            }
+        }
+        List<String> keys = testKeys.subList(0, Math.min(testKeys.size(), NUM_RUNS));
+        long wallStart = System.nanoTime();
+
+        switch (mode) {
+            case SEQUENTIAL -> {
+                for (int p = 0; p < dataProviders.size(); p++) {
+                    for (SearchAlgorithm<Article> algorithm : algorithms) {
+                        String statsKey = algorithm.labelFor(dataProviders.get(p).getName());
+                        AlgorithmStats stats = statsMap.get(statsKey);
+                        for (String key : keys) timeSearch(algorithm, lists.get(p), statsKey, key, stats);
+                    }
+                }
+            }
+            case RANDOMIZED -> {
+                List<Runnable> tasks = new ArrayList<>();
+                for (String key : keys) {
+                    for (int p = 0; p < dataProviders.size(); p++) {
+                        List<Article> list = lists.get(p);
+                        for (SearchAlgorithm<Article> algorithm : algorithms) {
+                            String statsKey = algorithm.labelFor(dataProviders.get(p).getName());
+                            AlgorithmStats stats = statsMap.get(statsKey);
+                            tasks.add(() -> timeSearch(algorithm, list, statsKey, key, stats));
+                        }
+                    }
+                }
+                Collections.shuffle(tasks, new Random(INTERLEAVING_SEED));
+                tasks.forEach(Runnable::run);
+            }
+            default -> {
+                // Threads wait at the gate so that all combinations start searching together
+                CountDownLatch gate = new CountDownLatch(1);
+                List<Thread> threads = new ArrayList<>();
+                for (int p = 0; p < dataProviders.size(); p++) {
+                    List<Article> list = lists.get(p);
+                    for (SearchAlgorithm<Article> algorithm : algorithms) {
+                        String statsKey = algorithm.labelFor(dataProviders.get(p).getName());
+                        AlgorithmStats stats = statsMap.get(statsKey);
+                        threads.add(Thread.ofPlatform().name(statsKey).start(() -> {
+                            try {
+                                gate.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                return;
+                            }
+                            for (String key : keys) timeSearch(algorithm, list, statsKey, key, stats);
+                        }));
+                    }
+                }
+                gate.countDown();
+                for (Thread thread : threads) {
+                    try {
+                        thread.join();
+                    } catch (InterruptedException e) {
+                        System.err.println("Task interrupted: " + e.getMessage());
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        }
+        lastWallNanos = System.nanoTime() - wallStart;
         return statsMap;
     }
+
+    private static void timeSearch(SearchAlgorithm<Article> algorithm, List<Article> list, String statsKey,
+                                   String key, AlgorithmStats stats) {
+        long startTime = System.nanoTime();
+        boolean found = false;
+        try {
+            found = algorithm.search(list, key) != -1;
+        } catch (Exception e) {
+            System.err.println("Error in " + statsKey + ": " + e.getMessage());
+        }
+        stats.addResultNanos(System.nanoTime() - startTime, found);
+    }
+
+    // Mean cost in nanoseconds of submitting and awaiting an empty task, i.e. pure scheduling
+    public double measureEmptyTaskNanos(int tasks) {
+        ExecutorService executor = strategy.acquire();
+        List<Future<?>> futures = new ArrayList<>(tasks);
+        long start = System.nanoTime();
+        for (int i = 0; i < tasks; i++) {
+            futures.add(executor.submit(() -> { }));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (java.util.concurrent.ExecutionException e) {
+                System.err.println("Execution error: " + e.getMessage());
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        strategy.release(executor);
+        return (double) elapsed / tasks;
+    }
+
+    public void close() {
+        strategy.close();
+    }
     
     @Override
     public void analyzeResults(Map<String, AlgorithmStats> results) {
-        System.out.println("\nAlgorithm Race Performance Summary:");
-        System.out.printf("%-30s %-10s %-10s %-10s %-8s %-8s%n", 
-            "Algorithm", "Best(ms)", "Worst(ms)", "Mean(ms)", "Found", "Runs");
-        System.out.println("=".repeat(80));
+        System.out.println("\nAlgorithm Race Performance Summary (ms):");
+        System.out.printf("%-46s %-9s %-9s %-9s %-9s %-9s %-9s %-9s %-9s %-6s %-5s%n",
+            "Algorithm", "Best", "p50", "p90", "p99", "p99.9", "Worst", "Mean", "StdDev", "Found", "Runs");
+        System.out.println("=".repeat(140));
         results.entrySet().stream()
             .sorted((e1, e2) -> Double.compare(e1.getValue().getMeanTime(), e2.getValue().getMeanTime()))
             .forEach(entry -> {
                 AlgorithmStats stats = entry.getValue();
-                System.out.printf("%-30s %-10.3f %-10.3f %-10.3f %-8d %-8d%n",
+                double[] tail = stats.getTailPercentiles();
+                System.out.printf("%-46s %-9.4f %-9.4f %-9.4f %-9.4f %-9.4f %-9.4f %-9.4f %-9.4f %-6d %-5d%n",
                     entry.getKey(),
                     stats.getBestTime(),
+                    tail[0], tail[1], tail[2], tail[3],
                     stats.getWorstTime(),
                     stats.getMeanTime(),
+                    stats.getStdDev(),
                     stats.getFoundCount(),
                     stats.getTotalRuns());
             });
         analyzeDataStructurePerformance(results);
     }
     
+    // Median time of every combination under each mode against its isolated run; the slowdown is
+    // the interference from whatever else ran alongside it (CPU time slicing, caches, memory bandwidth)
+    @Override
+    public void analyzeInterference(Map<RaceMode, Map<String, AlgorithmStats>> results) {
+        Map<String, AlgorithmStats> isolated = results.get(RaceMode.SEQUENTIAL);
+        if (isolated == null) return;
+        List<RaceMode> modes = results.keySet().stream().filter(mode -> mode != RaceMode.SEQUENTIAL).toList();
+
+        System.out.println("\nInterference Report: p50 (ms) per race mode and slowdown vs the isolated run");
+        StringBuilder header = new StringBuilder(String.format("%-46s %-10s", "Algorithm", "Isolated"));
+        for (RaceMode mode : modes) header.append(String.format(" %-12s %-8s", mode.getLabel(), "Slowdown"));
+        System.out.println(header);
+        System.out.println("=".repeat(header.length()));
+
+        Map<RaceMode, Double> logSlowdown = new EnumMap<>(RaceMode.class);
+        Map<RaceMode, String> worst = new EnumMap<>(RaceMode.class);
+        Map<RaceMode, Double> worstSlowdown = new EnumMap<>(RaceMode.class);
+        int combinations = 0;
+        List<String> names = isolated.keySet().stream()
+            .sorted(Comparator.comparingDouble(name -> isolated.get(name).getPercentile(50))).toList();
+        for (String name : names) {
+            double base = isolated.get(name).getPercentile(50);
+            if (base <= 0) continue;
+            combinations++;
+            StringBuilder row = new StringBuilder(String.format("%-46s %-10.4f", name, base));
+            for (RaceMode mode : modes) {
+                AlgorithmStats stats = results.get(mode).get(name);
+                double p50 = stats == null ? 0 : stats.getPercentile(50);
+                double slowdown = p50 / base;
+                row.append(String.format(" %-12.4f %-8s", p50, String.format("%.2fx", slowdown)));
+                logSlowdown.merge(mode, Math.log(Math.max(slowdown, 1e-9)), Double::sum);
+                if (slowdown > worstSlowdown.getOrDefault(mode, 0.0)) {
+                    worstSlowdown.put(mode, slowdown);
+                    worst.put(mode, name);
+                }
+            }
+            System.out.println(row);
+        }
+        if (combinations == 0) return;
+        for (RaceMode mode : modes) {
+            System.out.printf("- %s: %.2fx geometric-mean slowdown, worst %.2fx (%s)%n", mode.getLabel(),
+                Math.exp(logSlowdown.get(mode) / combinations), worstSlowdown.get(mode), worst.get(mode));
+        }
+    }
+
     private void analyzeDataStructurePerformance(Map<String, AlgorithmStats> statsMap) {
         System.out.println("\nAlgorithm Performance by Data Structure Analysis:");
         System.out.println("LinkedList Performance Analysis:");
         System.out.println("- Linear Search: Optimal for LinkedList (sequential access)");
-        System.out.println("- Binary/Jump/Exponential Search: Poor performance due to O(n) random access");
+        System.out.println("- Binary/Jump/Exponential Search: a moving ListIterator cursor keeps them at O(n) node hops, no better than linear");
+        System.out.println("- Skip List: skip lanes over the same linked nodes give O(log n) probes");
         System.out.println("- ArrayList is recommended for algorithms requiring random access");
         
         // Compare same algorithm performance between data structures
-        String[] algorithms = {"Linear Search", "Binary Search", "Jump Search", "Exponential Search"};
-        for (String algo : algorithms) {
+        for (String algo : Main.algorithmNames()) {
             AlgorithmStats arrayStats = statsMap.get(algo + " - ArrayList");
             AlgorithmStats linkedStats = statsMap.get(algo + " - LinkedList");
             
@@ -239,6 +825,59 @@ class ConcurrentPerformanceAnalyzer implements PerformanceAnalyzer {
                 System.out.printf("- %s: LinkedList is %.1fx slower than ArrayList%n", algo, ratio);
             }
         }
+
+        // What the skip lanes buy over a plain LinkedList
+        for (String algo : Main.algorithmNames()) {
+            AlgorithmStats linkedStats = statsMap.get(algo + " - LinkedList");
+            AlgorithmStats skipStats = statsMap.get(algo + " - Skip List");
+
+            if (linkedStats != null && skipStats != null && skipStats.getMeanTime() > 0) {
+                double speedup = linkedStats.getMeanTime() / skipStats.getMeanTime();
+                System.out.printf("- %s: Skip List is %.1fx faster than LinkedList%n", algo, speedup);
+            }
+        }
+
+        // Cache-line win of the packed ID column over ArrayList
+        for (String algo : Main.algorithmNames()) {
+            AlgorithmStats arrayStats = statsMap.get(algo + " - ArrayList");
+            AlgorithmStats columnStats = statsMap.get(algo + " - ID Column");
+
+            if (arrayStats != null && columnStats != null && columnStats.getMeanTime() > 0) {
+                double speedup = arrayStats.getMeanTime() / columnStats.getMeanTime();
+                System.out.printf("- %s: ID Column is %.1fx faster than ArrayList%n", algo, speedup);
+            }
+        }
+
+        // Branchless Eytzinger layout against the classic sorted-array searches
+        AlgorithmStats eytzingerStats = statsMap.get(new EytzingerSearchAdapter().labelFor("Eytzinger"));
+        if (eytzingerStats != null && eytzingerStats.getMeanTime() > 0) {
+            for (String algo : new String[] {"Binary Search", "Exponential Search"}) {
+                AlgorithmStats arrayStats = statsMap.get(algo + " - ArrayList");
+                if (arrayStats != null) {
+                    System.out.printf("- Eytzinger Search is %.1fx faster than %s on ArrayList%n",
+                        arrayStats.getMeanTime() / eytzingerStats.getMeanTime(), algo);
+                }
+            }
+        }
+
+        // Vector compares against the scalar loops over the same packed ID column
+        for (String algo : new String[] {"Linear Search", "Jump Search"}) {
+            AlgorithmStats scalarStats = statsMap.get(algo + " - ID Column");
+            AlgorithmStats vectorStats = statsMap.get("SIMD " + algo + " - ID Column");
+            if (scalarStats != null && vectorStats != null && vectorStats.getMeanTime() > 0) {
+                System.out.printf("- SIMD %s is %.1fx faster than %s on ID Column (%s)%n",
+                    algo, scalarStats.getMeanTime() / vectorStats.getMeanTime(), algo,
+                    SearchAlgorithms.vectorScanDescription());
+            }
+        }
+
+        // Learned model lookups against plain binary search over the same sorted array
+        AlgorithmStats learnedStats = statsMap.get(new LearnedIndexSearchAdapter().labelFor("Learned Index"));
+        AlgorithmStats binaryStats = statsMap.get("Binary Search - ArrayList");
+        if (learnedStats != null && binaryStats != null && learnedStats.getMeanTime() > 0) {
+            System.out.printf("- Learned Index Search is %.1fx faster than Binary Search on ArrayList%n",
+                binaryStats.getMeanTime() / learnedStats.getMeanTime());
+        }
     }
 }
 
@@ -249,6 +888,7 @@ class JFreeChartGenerator implements ChartGenerator {
         System.out.println("Generating performance visualizations...");
         generateRaceChart(performanceData);
         generateBestMeanWorstChart(performanceData);
+        generateTailLatencyChart(performanceData);
         generateDataStructureComparisonChart(performanceData);
         generateComplexityAnalysisChart(performanceData, dataSize);
         generateAlgorithmByDataStructureChart(performanceData);
@@ -277,12 +917,14 @@ class JFreeChartGenerator implements ChartGenerator {
         DefaultCategoryDataset dataset = new DefaultCategoryDataset();
         performanceData.forEach((algorithmName, stats) -> {
             dataset.addValue(stats.getBestTime(), "Best Case", algorithmName);
+            dataset.addValue(stats.getPercentile(50), "Median (p50)", algorithmName);
             dataset.addValue(stats.getMeanTime(), "Mean Case", algorithmName);
+            dataset.addValue(stats.getPercentile(99), "p99", algorithmName);
             dataset.addValue(stats.getWorstTime(), "Worst Case", algorithmName);
         });
 
         JFreeChart chart = ChartFactory.createBarChart(
-            "Best, Mean, Worst Case Performance Analysis",
+            "Best, Median, Mean, p99, Worst Case Performance Analysis",
             "Algorithm - Data Structure",
             "Execution Time (milliseconds)",
             dataset
@@ -290,11 +932,32 @@ class JFreeChartGenerator implements ChartGenerator {
         showChart(chart, "Best/Mean/Worst Case Analysis");
     }
     
+    // Latency percentiles per algorithm on ArrayList, so tails that the mean hides show up
+    private void generateTailLatencyChart(Map<String, AlgorithmStats> performanceData) {
+        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        String[] labels = {"p50", "p90", "p99", "p99.9"};
+        for (SearchAlgorithm<Article> algorithm : Main.defaultAlgorithms()) {
+            String algo = algorithm.getName();
+            AlgorithmStats stats = performanceData.get(algorithm.labelFor("ArrayList"));
+            if (stats == null) continue;
+            double[] tail = stats.getTailPercentiles();
+            for (int i = 0; i < labels.length; i++) {
+                dataset.addValue(tail[i], algo.replace(" Search", ""), labels[i]);
+            }
+        }
+        JFreeChart chart = ChartFactory.createLineChart(
+            "Tail Latency by Percentile (ArrayList)",
+            "Percentile",
+            "Latency (milliseconds)",
+            dataset
+        );
+        showChart(chart, "Tail Latency");
+    }
+
     private void generateDataStructureComparisonChart(Map<String, AlgorithmStats> performanceData) {
         DefaultCategoryDataset dataset = new DefaultCategoryDataset();
-        String[] algorithms = {"Linear Search", "Binary Search", "Jump Search", "Exponential Search"};
         
-        for (String algo : algorithms) {
+        for (String algo : Main.algorithmNames()) {
             AlgorithmStats arrayStats = performanceData.get(algo + " - ArrayList");
             AlgorithmStats linkedStats = performanceData.get(algo + " - LinkedList");
             
@@ -302,9 +965,17 @@ class JFreeChartGenerator implements ChartGenerator {
                 dataset.addValue(arrayStats.getMeanTime(), "ArrayList", algo.replace(" Search", ""));
                 dataset.addValue(linkedStats.getMeanTime(), "LinkedList", algo.replace(" Search", ""));
             }
+            AlgorithmStats skipStats = performanceData.get(algo + " - Skip List");
+            if (skipStats != null) {
+                dataset.addValue(skipStats.getMeanTime(), "Skip List", algo.replace(" Search", ""));
+            }
+            AlgorithmStats columnStats = performanceData.get(algo + " - ID Column");
+            if (columnStats != null) {
+                dataset.addValue(columnStats.getMeanTime(), "ID Column", algo.replace(" Search", ""));
+            }
         }
         JFreeChart chart = ChartFactory.createBarChart(
-            "ArrayList vs LinkedList Performance Comparison",
+            "ArrayList vs LinkedList vs Skip List vs ID Column Performance Comparison",
             "Search Algorithm",
             "Mean Time (milliseconds)",
             dataset
@@ -319,10 +990,22 @@ class JFreeChartGenerator implements ChartGenerator {
         dataset.addValue(Math.log(dataSize) / Math.log(2) * scaleFactor * 10, "Binary O(log n) - Theoretical", "Binary");
         dataset.addValue(Math.sqrt(dataSize) * scaleFactor * 5, "Jump O(√n) - Theoretical", "Jump");
         dataset.addValue(Math.log(dataSize) / Math.log(2) * scaleFactor * 10, "Exponential O(log n) - Theoretical", "Exponential");
+        dataset.addValue(scaleFactor * 10, "Hash Index O(1) - Theoretical", "Hash Index");
+        int lanes = Math.max(1, SearchAlgorithms.vectorLanes());
+        dataset.addValue(dataSize * scaleFactor / ForkJoinPool.getCommonPoolParallelism(),
+            "Parallel Linear O(n / p) - Theoretical", "Parallel Linear");
+        dataset.addValue(dataSize * scaleFactor / lanes, "SIMD Linear O(n / lanes) - Theoretical", "SIMD Linear");
+        dataset.addValue(Math.sqrt(dataSize) * scaleFactor * 5, "SIMD Jump O(√n) - Theoretical", "SIMD Jump");
+        dataset.addValue(Math.log(dataSize) / Math.log(2) * scaleFactor * 10, "Eytzinger O(log n) - Theoretical", "Eytzinger");
+        double logLog = Math.log(Math.log(dataSize) / Math.log(2)) / Math.log(2);
+        dataset.addValue(logLog * scaleFactor * 10, "Interpolation O(log log n) - Theoretical", "Interpolation");
+        dataset.addValue(Math.sqrt(dataSize) * scaleFactor * 5, "Interpolation-Sequential O(√n) - Theoretical", "Interpolation-Sequential");
+        dataset.addValue(logLog * scaleFactor * 10, "Adaptive O(log log n) - Theoretical", "Adaptive");
+        dataset.addValue(Math.log(2 * LearnedIndex.EPSILON + 3) / Math.log(2) * scaleFactor * 10, "Learned Index O(log ε) - Theoretical", "Learned Index");
         
-        String[] algorithms = {"Linear Search", "Binary Search", "Jump Search", "Exponential Search"};
-        for (String algo : algorithms) {
-            AlgorithmStats stats = performanceData.get(algo + " - ArrayList");
+        for (SearchAlgorithm<Article> algorithm : Main.defaultAlgorithms()) {
+            String algo = algorithm.getName();
+            AlgorithmStats stats = performanceData.get(algorithm.labelFor("ArrayList"));
             if (stats != null) {
                 dataset.addValue(stats.getMeanTime(), algo.replace(" Search", "") + " - Empirical", algo.replace(" Search", ""));
             }
@@ -337,6 +1020,44 @@ class JFreeChartGenerator implements ChartGenerator {
         showChart(chart, "Complexity Analysis");
     }
     
+    // Measured medians and fitted growth curves from a sweep over corpus sizes, on a log10 scale
+    // since the algorithms span several orders of magnitude
+    @Override
+    public void generateScalabilityCharts(ScalabilitySweep.Result sweep) {
+        long[] sizes = sweep.getSizes();
+        DefaultCategoryDataset algorithms = new DefaultCategoryDataset();
+        DefaultCategoryDataset structures = new DefaultCategoryDataset();
+        DefaultCategoryDataset fitted = new DefaultCategoryDataset();
+        sweep.getMedians().forEach((pair, times) -> {
+            String[] parts = pair.split(" - ");
+            if (parts.length != 2) return;
+            String algorithm = parts[0].replace(" Search", "");
+            // SIMD rows on the ArrayList ran the scalar search and would pose as vector curves
+            boolean arrayListRow = parts[1].endsWith("ArrayList")
+                && !parts[1].startsWith(VectorLinearSearchAdapter.SCALAR_FALLBACK);
+            for (int s = 0; s < sizes.length; s++) {
+                if (Double.isNaN(times[s])) continue;
+                String size = ScalabilitySweep.sizeLabel(sizes[s]);
+                if (arrayListRow) algorithms.addValue(Math.log10(times[s]), algorithm, size);
+                if (parts[0].equals("Binary Search")) structures.addValue(Math.log10(times[s]), parts[1], size);
+            }
+            ScalabilitySweep.Fit fit = sweep.getFits().get(pair);
+            if (fit != null && arrayListRow) {
+                for (long size : sizes) {
+                    fitted.addValue(Math.log10(fit.predictMicros(size)),
+                        algorithm + " " + fit.getModel().getLabel(), ScalabilitySweep.sizeLabel(size));
+                }
+            }
+        });
+
+        showChart(ChartFactory.createLineChart("Measured Lookup Time by Corpus Size (ArrayList)",
+            "Corpus Size (rows)", "log10 Median Lookup Time (us)", algorithms), "Scalability - Algorithms");
+        showChart(ChartFactory.createLineChart("Measured Lookup Time by Corpus Size (Binary Search)",
+            "Corpus Size (rows)", "log10 Median Lookup Time (us)", structures), "Scalability - Data Structures");
+        showChart(ChartFactory.createLineChart("Fitted Growth Curves, Extrapolated to Every Size (ArrayList)",
+            "Corpus Size (rows)", "log10 Fitted Lookup Time (us)", fitted), "Scalability - Fitted Growth");
+    }
+    
     private void generateAlgorithmByDataStructureChart(Map<String, AlgorithmStats> performanceData) {
         DefaultCategoryDataset dataset = new DefaultCategoryDataset();
         performanceData.forEach((key, stats) -> {
@@ -370,6 +1091,12 @@ class JFreeChartGenerator implements ChartGenerator {
 // User interface implementation
 class ConsoleUserInterface implements UserInterface {
     private static final String INVALID_CHOICE_MSG = "Cancelled or invalid choice.";
+    // Scans that never call get(i) on the provider's list; index-backed algorithms don't probe it at all
+    private static final Set<String> SEQUENTIAL_SCANS = Set.of(
+        "Linear Search", "Parallel Linear Search", "SIMD Linear Search");
+    private static final int KEYWORD_RESULTS_SHOWN = 10;
+    // Width of the time windows the load test reports latency over
+    private static final long LOAD_WINDOW_NANOS = 1_000_000_000L;
     private final Scanner scanner;
     public ConsoleUserInterface() {
         this.scanner = new Scanner(System.in);
@@ -386,7 +1113,17 @@ class ConsoleUserInterface implements UserInterface {
         System.out.println("2. Race all search algorithms (30 runs - Random Values)");
         System.out.println("3. Generate search algorithms performance visualization graphs");
         System.out.println("4. Show theoretical complexities comparison graph");
-        System.out.println("5. End program");
+        System.out.println("5. Ingest (or follow) another CSV file into the live index (background)");
+        System.out.println("6. Search the live index by ID");
+        System.out.println("7. Keyword search over titles and abstracts (AND / OR)");
+        System.out.println("8. Filter by category (AND / OR / NOT), optionally combined with keywords or IDs");
+        System.out.println("9. List articles by ID prefix or range");
+        System.out.println("10. Sustained load test (open / closed loop, latency over time)");
+        System.out.println("11. Scalability sweep over synthetic corpora (10^3 .. 10^8 rows)");
+        System.out.println("12. Parallel Linear Search speedup per worker count");
+        System.out.println("13. Executor strategy overhead (platform / virtual threads / fork-join)");
+        System.out.println("14. Interference report (each pair isolated vs raced concurrently)");
+        System.out.println("15. End program");
         System.out.print("Enter choice: ");
     }
     
@@ -405,12 +1142,14 @@ class ConsoleUserInterface implements UserInterface {
         System.out.print("Enter Article ID: ");
         String id = scanner.nextLine().trim();
         
+        List<String> algorithmNames = algorithms.stream().map(SearchAlgorithm::getName).toList();
         int algorithmChoice = getChoice("Choose search algorithm:", 
-            Arrays.asList("Linear Search", "Binary Search", "Jump Search", "Exponential Search"), 1, 4);
+            algorithmNames, 1, algorithmNames.size());
         if (algorithmChoice == -1) return;
         
+        List<String> structureNames = dataProviders.stream().map(DataStructureProvider::getName).toList();
         int dataStructureChoice = getChoice("Choose data structure:", 
-            Arrays.asList("ArrayList", "LinkedList"), 1, 2);
+            structureNames, 1, structureNames.size());
         if (dataStructureChoice == -1) return;
         
         SearchAlgorithm<Article> selectedAlgorithm = algorithms.get(algorithmChoice - 1);
@@ -418,6 +1157,227 @@ class ConsoleUserInterface implements UserInterface {
         performSearch(id, selectedAlgorithm, selectedProvider);
     }
     
+    @Override
+    public void handleKeywordSearch(InvertedIndex index, BM25Ranker ranker, List<Article> articles,
+                                    AlgorithmStats keywordStats) {
+        int mode = getChoice("Choose keyword search mode:",
+            List.of("Boolean match (AND / OR)", "Ranked top " + KEYWORD_RESULTS_SHOWN + " (BM25)"), 1, 2);
+        if (mode == -1) return;
+        if (mode == 1) {
+            System.out.println("Terms are ANDed; separate alternatives with OR (e.g. \"neural network OR deep learning\").");
+        }
+        System.out.print("Enter keywords: ");
+        String query = scanner.nextLine().trim();
+        if (query.isEmpty()) {
+            System.out.println(INVALID_CHOICE_MSG);
+            return;
+        }
+
+        long startTime = System.nanoTime();
+        int[] matches;
+        double[] scores = null;
+        if (mode == 1) {
+            matches = index.search(query);
+        } else {
+            BM25Ranker.Result ranked = ranker.topK(query, KEYWORD_RESULTS_SHOWN);
+            matches = ranked.getDocs();
+            scores = ranked.getScores();
+        }
+        long endTime = System.nanoTime();
+        double timeInSeconds = (endTime - startTime) / 1_000_000_000.0;
+        keywordStats.addResultNanos(endTime - startTime, matches.length > 0);
+
+        if (scores != null && matches.length > 0) {
+            System.out.println("\nTop " + matches.length + " articles for \"" + query + "\" by BM25:");
+            for (int i = 0; i < matches.length; i++) {
+                Article article = articles.get(matches[i]);
+                System.out.printf("  %6.3f  %s  %s%n", scores[i], article.getId(), article.getTitle());
+            }
+        } else if (matches.length == 0) {
+            System.out.println("No articles match \"" + query + "\".");
+        } else {
+            System.out.println("\n" + matches.length + " articles match \"" + query + "\":");
+            printPositions(matches, articles);
+        }
+        System.out.printf("Search completed in: %.9f seconds\n", timeInSeconds);
+        System.out.printf("Keyword search latency over %d queries (ms): best %.4f, p50 %.4f, p99 %.4f, mean %.4f, worst %.4f\n",
+            keywordStats.getTotalRuns(), keywordStats.getBestTime(), keywordStats.getPercentile(50),
+            keywordStats.getPercentile(99), keywordStats.getMeanTime(), keywordStats.getWorstTime());
+    }
+
+    @Override
+    public void handleCategoryFilter(CategoryIndex categories, InvertedIndex index, List<Article> articles) {
+        System.out.println("\nArticles per category:");
+        for (CategoryIndex.Category category : CategoryIndex.Category.values()) {
+            System.out.printf("  %-22s %-10s %d%n", category.getDisplayName(),
+                "(" + category.getShortName() + ")", categories.count(category));
+        }
+        System.out.print("Enter category query (e.g. \"physics AND NOT (math OR stats)\"): ");
+        String expression = scanner.nextLine().trim();
+        if (expression.isEmpty()) {
+            System.out.println(INVALID_CHOICE_MSG);
+            return;
+        }
+
+        long startTime = System.nanoTime();
+        CompressedBitmap filter;
+        try {
+            filter = categories.query(expression);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Error: " + e.getMessage());
+            return;
+        }
+        double timeInSeconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+        System.out.printf("%d articles match \"%s\" (evaluated in %.9f seconds)%n",
+            filter.cardinality(), expression, timeInSeconds);
+
+        System.out.print("Restrict to keywords (AND / OR, blank to skip): ");
+        String keywords = scanner.nextLine().trim();
+        if (!keywords.isEmpty()) {
+            int[] matches = index.search(keywords);
+            int[] filtered = filter.filter(matches);
+            System.out.println(matches.length + " articles match the keywords, " + filtered.length + " of them in the categories:");
+            printPositions(filtered, articles);
+        }
+
+        System.out.print("Check article IDs against the categories (comma-separated, blank to skip): ");
+        String ids = scanner.nextLine().trim();
+        if (!ids.isEmpty()) {
+            for (String id : ids.split(",")) {
+                String key = id.trim();
+                if (key.isEmpty()) continue;
+                int position = SearchAlgorithms.binarySearch(articles, key);
+                String verdict = position == -1 ? "not found"
+                    : filter.contains(position) ? "matches" : "found, outside the categories";
+                System.out.println("  " + key + ": " + verdict);
+            }
+        }
+    }
+
+    @Override
+    public void handleRangeQuery(List<DataStructureProvider<Article>> dataProviders) {
+        System.out.print("Enter an ID prefix (e.g. 1705.), or a range from..to with exclusive end (either side may be empty): ");
+        String input = scanner.nextLine().trim();
+        if (input.isEmpty()) {
+            System.out.println(INVALID_CHOICE_MSG);
+            return;
+        }
+        int separator = input.indexOf("..");
+        String from = separator < 0 ? input : emptyToNull(input.substring(0, separator).trim());
+        String to = separator < 0 ? null : emptyToNull(input.substring(separator + 2).trim());
+
+        System.out.printf("%n%-20s %-10s %-14s%n", "Data Structure", "Articles", "Time(ms)");
+        System.out.println("=".repeat(46));
+        List<Article> sample = new ArrayList<>();
+        for (DataStructureProvider<Article> provider : dataProviders) {
+            long startTime = System.nanoTime();
+            Iterator<Article> matches = separator < 0
+                ? SearchAlgorithms.prefixIterator(provider.getList(), from)
+                : SearchAlgorithms.rangeIterator(provider.getList(), from, to);
+            int count = 0;
+            while (matches.hasNext()) {
+                Article article = matches.next();
+                if (sample.size() < KEYWORD_RESULTS_SHOWN && provider == dataProviders.get(0)) sample.add(article);
+                count++;
+            }
+            double timeInMs = (System.nanoTime() - startTime) / 1_000_000.0;
+            System.out.printf("%-20s %-10d %-14.4f%n", provider.getName(), count, timeInMs);
+        }
+        for (Article article : sample) {
+            System.out.println("  " + article.getId() + "  " + article.getTitle());
+        }
+    }
+
+    @Override
+    public void handleLoadTest(List<DataStructureProvider<Article>> dataProviders,
+                               List<SearchAlgorithm<Article>> algorithms, List<Article> sortedData) {
+        List<String> algorithmNames = algorithms.stream().map(SearchAlgorithm::getName).toList();
+        int algorithmChoice = getChoice("Choose search algorithm:", algorithmNames, 1, algorithmNames.size());
+        if (algorithmChoice == -1) return;
+        List<String> structureNames = dataProviders.stream().map(DataStructureProvider::getName).toList();
+        int dataStructureChoice = getChoice("Choose data structure:", structureNames, 1, structureNames.size());
+        if (dataStructureChoice == -1) return;
+        int scheduleChoice = getChoice("Choose scheduling:",
+            List.of("Closed loop (next lookup when the last one returns)", "Open loop (fixed arrival rate)"), 1, 2);
+        if (scheduleChoice == -1) return;
+        LoadGenerator.KeyDistribution[] distributions = LoadGenerator.KeyDistribution.values();
+        int distributionChoice = getChoice("Choose key distribution:",
+            List.of("Uniform", "Zipfian (theta " + LoadGenerator.ZIPF_THETA + ")",
+                String.format("Hotspot (%.0f%% of lookups on %.0f%% of the keys)",
+                    LoadGenerator.HOT_OP_FRACTION * 100, LoadGenerator.HOT_KEY_FRACTION * 100)),
+            1, distributions.length);
+        if (distributionChoice == -1) return;
+
+        double rate = 0;
+        if (scheduleChoice == 2) {
+            rate = readPositive("Enter target rate in lookups per second: ", -1);
+            if (rate <= 0) return;
+        }
+        int cores = Runtime.getRuntime().availableProcessors();
+        int threads = (int) readPositive("Enter thread count (Enter for " + cores + "): ", cores);
+        if (threads <= 0) return;
+        System.out.print("Enter duration in seconds, or a lookup count ending in \"ops\" (e.g. 10 or 50000ops): ");
+        String limit = scanner.nextLine().trim().toLowerCase();
+        long durationNanos = 0;
+        long operations = 0;
+        try {
+            if (limit.endsWith("ops")) {
+                operations = Long.parseLong(limit.substring(0, limit.length() - 3).trim());
+            } else {
+                durationNanos = Math.round(Double.parseDouble(limit) * 1e9);
+            }
+        } catch (NumberFormatException ignored) {}
+        if (durationNanos <= 0 && operations <= 0) {
+            System.out.println(INVALID_CHOICE_MSG);
+            return;
+        }
+
+        SearchAlgorithm<Article> algorithm = algorithms.get(algorithmChoice - 1);
+        DataStructureProvider<Article> provider = dataProviders.get(dataStructureChoice - 1);
+        List<String> keys = new ArrayList<>(sortedData.size());
+        for (Article article : sortedData) keys.add(article.getId());
+        List<Article> list = provider.getList();
+        algorithm.prepare(list);
+        LoadGenerator generator = new LoadGenerator(algorithm, list, keys, System.nanoTime());
+        LoadGenerator.Schedule schedule = scheduleChoice == 2
+            ? LoadGenerator.Schedule.OPEN_LOOP : LoadGenerator.Schedule.CLOSED_LOOP;
+        System.out.println("Running load test...");
+        LoadGenerator.Result result = generator.run(threads, schedule, rate, distributions[distributionChoice - 1],
+            durationNanos, operations, LOAD_WINDOW_NANOS);
+        result.print(algorithm.labelFor(provider.getName()));
+        if (schedule == LoadGenerator.Schedule.OPEN_LOOP && result.getThroughput() < rate * 0.95) {
+            System.out.printf("%nOnly %.0f of the %.0f lookups/s requested were served: the pair is saturated, so"
+                + " response times include queueing behind earlier lookups.%n", result.getThroughput(), rate);
+        }
+    }
+
+    // Positive number from the console; blank input gives defaultValue, anything else invalid -1
+    private double readPositive(String prompt, double defaultValue) {
+        System.out.print(prompt);
+        String input = scanner.nextLine().trim();
+        if (input.isEmpty() && defaultValue > 0) return defaultValue;
+        try {
+            double value = Double.parseDouble(input);
+            if (value > 0) return value;
+        } catch (NumberFormatException ignored) {}
+        System.out.println(INVALID_CHOICE_MSG);
+        return -1;
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private void printPositions(int[] positions, List<Article> articles) {
+        for (int i = 0; i < Math.min(positions.length, KEYWORD_RESULTS_SHOWN); i++) {
+            Article article = articles.get(positions[i]);
+            System.out.println("  " + article.getId() + "  " + article.getTitle());
+        }
+        if (positions.length > KEYWORD_RESULTS_SHOWN) {
+            System.out.println("  ... and " + (positions.length - KEYWORD_RESULTS_SHOWN) + " more");
+        }
+    }
+
     private int getChoice(String prompt, List<String> options, int minChoice, int maxChoice) {
         System.out.println("\n" + prompt);
         for (int i = 0; i < options.size(); i++) {
@@ -435,13 +1395,15 @@ class ConsoleUserInterface implements UserInterface {
     
     private void performSearch(String id, SearchAlgorithm<Article> algorithm, 
                               DataStructureProvider<Article> provider) {
+        List<Article> list = provider.getList();
+        algorithm.prepare(list);
         long startTime = System.nanoTime();
-        int index = algorithm.search(provider.getList(), id);
+        int index = algorithm.search(list, id);
         long endTime = System.nanoTime();
         double timeInSeconds = (endTime - startTime) / 1_000_000_000.0;
         
         if (index != -1) {
-            Article result = provider.getList().get(index);
+            Article result = list.get(index);
             System.out.println("\nArticle found using " + algorithm.getName() + " on " + provider.getName() + ":");
             System.out.println(result);
         } else {
@@ -450,7 +1412,8 @@ class ConsoleUserInterface implements UserInterface {
         System.out.printf("Search completed in: %.9f seconds\n", timeInSeconds);
         
         // Performance warning for inefficient combinations
-        if (!provider.isOptimalForRandomAccess() && !algorithm.getName().equals("Linear Search")) {
+        if (!provider.isOptimalForRandomAccess() && !algorithm.usesIndex()
+                && !SEQUENTIAL_SCANS.contains(algorithm.getName())) {
             System.out.println("\nPerformance Note: " + algorithm.getName() + 
                 " on " + provider.getName() + " is inefficient due to O(n) random access time.");
             System.out.println("Consider using ArrayList for better performance with " + algorithm.getName() + ".");
@@ -463,6 +1426,13 @@ class ConsoleUserInterface implements UserInterface {
 
 // Main class
 public class Main {
+    // No-op tasks submitted to price each executor strategy's scheduling alone
+    private static final int EMPTY_TASKS = 10_000;
+    // Keys per race, half of them missing
+    private static final int RACE_KEYS = 30;
+    // Fixed so the ranked-query report draws the same title queries every run
+    private static final long RANKED_QUERY_SEED = 214;
+
     // Components
     private final UserInterface userInterface;
     private final PerformanceAnalyzer performanceAnalyzer;
@@ -475,19 +1445,67 @@ public class Main {
     // Store last race results
     private Map<String, AlgorithmStats> lastRaceResults = null;
 
+    // Growing index that extra CSV files are streamed into while the app runs
+    private final LiveArticleIndex liveIndex = new LiveArticleIndex();
+
+    // Full-text index over titles and abstracts, and latency of the keyword queries run against it
+    private InvertedIndex keywordIndex;
+    private BM25Ranker keywordRanker;
+
+    // One compressed bitmap per category over the same positions, used as a filter
+    private CategoryIndex categoryIndex;
+    private final AlgorithmStats keywordStats = new AlgorithmStats();
+
     public Main() {
         this.userInterface = new ConsoleUserInterface();
-        this.performanceAnalyzer = new ConcurrentPerformanceAnalyzer();
+        // -Drace.executor=platform|per-run|virtual|forkjoin picks where the analyzer runs its tasks
+        this.performanceAnalyzer = new ConcurrentPerformanceAnalyzer(
+            ExecutionStrategy.named(System.getProperty("race.executor", "platform")));
         this.chartGenerator = new JFreeChartGenerator();
         this.dataProviders = new ArrayList<>();
-        this.algorithms = Arrays.asList(
+        this.algorithms = defaultAlgorithms();
+    }
+
+    // Algorithms raced by the app and the JMH benchmarks
+    static List<SearchAlgorithm<Article>> defaultAlgorithms() {
+        return Arrays.asList(
             new LinearSearchAdapter(),
             new BinarySearchAdapter(),
             new JumpSearchAdapter(),
-            new ExponentialSearchAdapter()
+            new ExponentialSearchAdapter(),
+            new ParallelLinearSearchAdapter(),
+            new VectorLinearSearchAdapter(),
+            new VectorJumpSearchAdapter(),
+            new HashIndexSearchAdapter(),
+            new EytzingerSearchAdapter(),
+            new InterpolationSearchAdapter(),
+            new InterpolationSequentialSearchAdapter(),
+            new AdaptiveSearchAdapter(),
+            new LearnedIndexSearchAdapter()
         );
     }
 
+    static List<String> algorithmNames() {
+        List<String> names = new ArrayList<>();
+        for (SearchAlgorithm<Article> algorithm : defaultAlgorithms()) {
+            names.add(algorithm.getName());
+        }
+        return names;
+    }
+
+    // Data structures raced by the app and the JMH benchmarks, built from sorted data
+    static List<DataStructureProvider<Article>> defaultProviders(List<Article> sortedData) {
+        List<DataStructureProvider<Article>> providers = new ArrayList<>();
+        providers.add(new ArrayListProvider<>(sortedData));
+        providers.add(new LinkedListProvider<>(sortedData));
+        providers.add(new SkipListProvider(sortedData));
+        providers.add(new IdColumnProvider(sortedData));
+        providers.add(new EytzingerProvider(sortedData));
+        providers.add(new LearnedIndexProvider(sortedData));
+        providers.add(new ConcurrentStoreProvider(sortedData));
+        return providers;
+    }
+
     public static void main(String[] args) {
         Main app = new Main();
         app.run();
@@ -505,10 +1523,35 @@ public class Main {
         }
 
         // Initialize data providers with shared sorted data
-        dataProviders.add(new ArrayListProvider<>(sortedData));
-        dataProviders.add(new LinkedListProvider<>(sortedData));
+        dataProviders.addAll(defaultProviders(sortedData));
+        SearchAlgorithm.prepareAll(algorithms, dataProviders);
+        for (SearchAlgorithm<Article> algorithm : algorithms) {
+            if (algorithm instanceof AdaptiveSearchAdapter adaptive) {
+                System.out.println(adaptive.summary(sortedData));
+            }
+            if (algorithm instanceof LearnedIndexSearchAdapter learned) {
+                System.out.println(learned.summary(sortedData));
+            }
+        }
+        System.out.println(SearchAlgorithms.vectorScanDescription());
+        liveIndex.addAll(sortedData);
+        // Rows ingested from now on (option 5) are written into the concurrent store as well, so
+        // the race and the ID and range searches see them
+        for (DataStructureProvider<Article> provider : dataProviders) {
+            if (provider instanceof ConcurrentStoreProvider storeProvider) {
+                liveIndex.addListener(storeProvider.getStore()::putAll);
+            }
+        }
         System.out.println("Total articles loaded: " + sortedData.size());
 
+        long indexStart = System.nanoTime();
+        keywordIndex = InvertedIndex.build(sortedData);
+        keywordRanker = new BM25Ranker(keywordIndex);
+        System.out.printf("Keyword index built in %.1f ms (%d terms, %d KB of postings)\n",
+            (System.nanoTime() - indexStart) / 1_000_000.0, keywordIndex.termCount(),
+            keywordIndex.compressedBytes() / 1024);
+        categoryIndex = CategoryIndex.build(sortedData);
+
         // Main application loop
         while (true) {
             userInterface.displayMainMenu();
@@ -535,7 +1578,17 @@ public class Main {
     chartGenerator.generateAllCharts(raceResults, sortedData.size());
 }
                 case 4 -> generateTheoreticalComplexityCharts();
-                case 5 -> {
+                case 5 -> ingestCsvFile();
+                case 6 -> lookupLiveIndex();
+                case 7 -> userInterface.handleKeywordSearch(keywordIndex, keywordRanker, sortedData, keywordStats);
+                case 8 -> userInterface.handleCategoryFilter(categoryIndex, keywordIndex, sortedData);
+                case 9 -> userInterface.handleRangeQuery(dataProviders);
+                case 10 -> userInterface.handleLoadTest(dataProviders, algorithms, sortedData);
+                case 11 -> runScalabilitySweep();
+                case 12 -> printParallelSpeedup(prepareTestKeys(sortedData, RACE_KEYS), lastRaceResults);
+                case 13 -> printExecutorOverhead(prepareTestKeys(sortedData, RACE_KEYS));
+                case 14 -> printInterferenceReport(prepareTestKeys(sortedData, RACE_KEYS));
+                case 15 -> {
                     System.out.println("--- Program ended. ---");
                     closeResources();
                     return;
@@ -546,37 +1599,56 @@ public class Main {
     }
     
     //Loads CSV data with portable resource loading
+    //A binary snapshot of the sorted data is written after the first CSV load and mapped on later starts
     private List<Article> loadAndSortData() {
         List<Article> csvData = new ArrayList<>();
+        boolean fromSnapshot = false;
+        Path snapshotPath = null;
+        long sourceSize = 0;
+        long sourceModified = 0;
         
         // Method 1: Try to load from Maven resources (portable)
+        int parserThreads = Runtime.getRuntime().availableProcessors();
         try {
-            InputStream inputStream = getClass().getClassLoader().getResourceAsStream("Article.csv");
-            if (inputStream != null) {
+            URL resource = getClass().getClassLoader().getResource("Article.csv");
+            if (resource != null) {
                 System.out.println("Loading CSV from resources...");
                 
-                // Create temporary file from resource
-                File tempFile = File.createTempFile("Article", ".csv");
-                tempFile.deleteOnExit();
+                Path csvPath = null;
+                if ("file".equals(resource.getProtocol())) {
+                    // Resource is already on disk (e.g. target/classes): map it in place
+                    csvPath = Paths.get(resource.toURI());
+                    snapshotPath = snapshotPathFor(csvPath);
+                    sourceSize = Files.size(csvPath);
+                    sourceModified = Files.getLastModifiedTime(csvPath).toMillis();
+                } else {
+                    URLConnection connection = resource.openConnection();
+                    snapshotPath = snapshotPathFor("Article.csv", resource.toString());
+                    sourceSize = connection.getContentLengthLong();
+                    sourceModified = connection.getLastModified();
+                }
                 
-                try (FileOutputStream out = new FileOutputStream(tempFile)) {
-                    byte[] buffer = new byte[1024];
-                    int bytesRead;
-                    while ((bytesRead = inputStream.read(buffer)) != -1) {
-                        out.write(buffer, 0, bytesRead);
+                csvData = readSnapshot(snapshotPath, sourceSize, sourceModified);
+                fromSnapshot = !csvData.isEmpty();
+                if (!fromSnapshot) {
+                    if (csvPath == null) {
+                        // Resource is inside a jar: copy it to a temporary file once
+                        File tempFile = File.createTempFile("Article", ".csv");
+                        tempFile.deleteOnExit();
+                        try (InputStream inputStream = resource.openStream()) {
+                            Files.copy(inputStream, tempFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                        }
+                        csvPath = tempFile.toPath();
                     }
+                    csvData = MappedCSVReader.readCSV(csvPath, parserThreads);
                 }
-                inputStream.close();
-                
-                // Use existing CSVReader with temp file
-                csvData = CSVReader.readCSV(tempFile.getAbsolutePath());
                 if (!csvData.isEmpty()) {
                     System.out.println("Successfully loaded " + csvData.size() + " articles from resources");
                 }
             } else {
                 System.out.println("Article.csv not found in resources, trying file system...");
             }
-        } catch (IOException e) {
+        } catch (IOException | URISyntaxException e) {
             System.out.println("Could not load from resources: " + e.getMessage());
         }
         
@@ -596,7 +1668,14 @@ public class Main {
                 System.out.println("   Checking: " + file.getAbsolutePath() + 
                                  " - " + (file.exists() ? "Exists" : "Not Found"));
                 if (file.exists() && file.canRead()) {
-                    csvData = CSVReader.readCSV(path);
+                    snapshotPath = snapshotPathFor(file.toPath());
+                    sourceSize = file.length();
+                    sourceModified = file.lastModified();
+                    csvData = readSnapshot(snapshotPath, sourceSize, sourceModified);
+                    fromSnapshot = !csvData.isEmpty();
+                    if (!fromSnapshot) {
+                        csvData = MappedCSVReader.readCSV(file.toPath(), parserThreads);
+                    }
                     if (!csvData.isEmpty()) {
                         System.out.println("Successfully loaded from: " + path);
                         break;
@@ -612,12 +1691,46 @@ public class Main {
             return csvData;
         }
         
-        // Sort the data
+        // Snapshots are stored sorted, so only fresh CSV data needs sorting
+        if (fromSnapshot) {
+            return csvData;
+        }
         csvData.sort(Comparator.comparing(Article::getId));
         System.out.println("Data sorted by ID for binary search compatibility");
+        
+        try {
+            ArticleSnapshot.write(snapshotPath, csvData, sourceSize, sourceModified);
+            System.out.println("Snapshot written to: " + snapshotPath);
+        } catch (IOException e) {
+            System.out.println("Could not write snapshot: " + e.getMessage());
+        }
         return csvData;
     }
     
+    // Snapshots go to a per-user cache (-Dsnapshot.dir overrides it), never next to the CSV: one
+    // in src/main/resources would be copied into target/classes and the jar
+    private static Path snapshotPathFor(Path csvPath) {
+        return snapshotPathFor(csvPath.getFileName().toString(), csvPath.toAbsolutePath().normalize().toString());
+    }
+
+    // Named after the file, plus a hash of where it came from so same-named CSVs don't collide
+    private static Path snapshotPathFor(String fileName, String source) {
+        Path directory = Paths.get(System.getProperty("snapshot.dir",
+            Paths.get(System.getProperty("user.home"), ".cache", "search-algorithms").toString()));
+        return directory.resolve(fileName + "." + Integer.toHexString(source.hashCode()) + ".snapshot");
+    }
+    
+    private List<Article> readSnapshot(Path snapshotPath, long sourceSize, long sourceModified) {
+        long startTime = System.nanoTime();
+        List<Article> articles = ArticleSnapshot.readIfFresh(snapshotPath, sourceSize, sourceModified);
+        if (articles == null || articles.isEmpty()) {
+            return new ArrayList<>();
+        }
+        double timeTaken = (System.nanoTime() - startTime) / 1_000_000.0;
+        System.out.printf("Loaded %d sorted articles from snapshot %s in %.1f ms%n", articles.size(), snapshotPath, timeTaken);
+        return articles;
+    }
+    
     private void printDebuggingInfo() {
         System.out.println("\n--- Debugging Information ---");
         System.out.println("Current working directory: " + System.getProperty("user.dir"));
@@ -647,13 +1760,13 @@ public class Main {
     }
     
     private Map<String, AlgorithmStats> runPerformanceRace(List<Article> data) {
-        int numKeys = 30;
-        List<String> testKeys = prepareTestKeys(data, numKeys);
+        List<String> testKeys = prepareTestKeys(data, RACE_KEYS);
+        List<List<Article>> lists = SearchAlgorithm.prepareAll(algorithms, dataProviders);
 
         Map<String, AlgorithmStats> statsMap = new ConcurrentHashMap<>();
         for (DataStructureProvider<Article> provider : dataProviders) {
             for (SearchAlgorithm<Article> algorithm : algorithms) {
-                String key = algorithm.getName() + " - " + provider.getName();
+                String key = algorithm.labelFor(provider.getName());
                 statsMap.put(key, new AlgorithmStats());
             }
         }
@@ -664,23 +1777,24 @@ public class Main {
             System.out.println("Random Element " + (i + 1) + ": " + searchKey);
             boolean foundInAny = false;
             for (SearchAlgorithm<Article> algorithm : algorithms) {
-                for (DataStructureProvider<Article> provider : dataProviders) {
-                    String statsKey = algorithm.getName() + " - " + provider.getName();
+                for (int p = 0; p < dataProviders.size(); p++) {
+                    DataStructureProvider<Article> provider = dataProviders.get(p);
+                    String statsKey = algorithm.labelFor(provider.getName());
                     long startTime = System.nanoTime();
                     boolean found = false;
                     
                     try {
-                        int result = algorithm.search(provider.getList(), searchKey);
+                        int result = algorithm.search(lists.get(p), searchKey);
                         found = result != -1;
                     } catch (Exception e) {
                         System.err.println("Error in " + statsKey + ": " + e.getMessage());
                     }
                     long endTime = System.nanoTime();
                     double timeTaken = (endTime - startTime) / 1_000_000.0; // ms
-                    statsMap.get(statsKey).addResult(timeTaken, found, i);
+                    statsMap.get(statsKey).addResultNanos(endTime - startTime, found);
                     
                     if (found) foundInAny = true;
-                    System.out.printf("%-28s %-14s %-25s %-10s %-10.3f%n",
+                    System.out.printf("%-32s %-16s %-25s %-10s %-10.3f%n",
                         algorithm.getName(),
                         provider.getName(),
                         searchKey,
@@ -695,28 +1809,211 @@ public class Main {
             System.out.println(); // Blank line between each key group
         }
         performanceAnalyzer.analyzeResults(statsMap);
+        printBatchComparison(testKeys, lists, statsMap);
+        printRankedQueryLatency(data);
         return statsMap;
     }
+
+    // Resolves all race keys with one searchAll call per combination and compares per-key cost
+    private void printBatchComparison(List<String> testKeys, List<List<Article>> lists,
+                                      Map<String, AlgorithmStats> statsMap) {
+        System.out.println("\nBatch Lookup (searchAll) vs Single-Key Search:");
+        System.out.printf("%-40s %-16s %-16s %-8s%n", "Algorithm", "Batch/key(ms)", "Single/key(ms)", "Found");
+        System.out.println("=".repeat(80));
+        for (SearchAlgorithm<Article> algorithm : algorithms) {
+            for (int p = 0; p < dataProviders.size(); p++) {
+                String statsKey = algorithm.labelFor(dataProviders.get(p).getName());
+                long startTime = System.nanoTime();
+                int[] results = algorithm.searchAll(lists.get(p), testKeys);
+                long endTime = System.nanoTime();
+                double perKey = (endTime - startTime) / 1_000_000.0 / testKeys.size();
+                int found = (int) Arrays.stream(results).filter(index -> index != -1).count();
+                System.out.printf("%-40s %-16.4f %-16.4f %-8d%n",
+                    statsKey, perKey, statsMap.get(statsKey).getMeanTime(), found);
+            }
+        }
+    }
     
+    // Parallel Linear Search on dedicated pools of 1, 2, 4, ... workers up to the core count, as warm
+    // mean ms per key. One worker runs the sequential scan, so speedups are against that row; after a
+    // race (option 2) its own (cold, single-shot) Linear Search means are shown above it for reference.
+    private void printParallelSpeedup(List<String> testKeys, Map<String, AlgorithmStats> raceResults) {
+        List<Article> arrayList = null;
+        List<Article> linkedList = null;
+        for (DataStructureProvider<Article> provider : dataProviders) {
+            if (provider instanceof ArrayListProvider) arrayList = provider.getList();
+            if (provider instanceof LinkedListProvider) linkedList = provider.getList();
+        }
+        if (arrayList == null || linkedList == null) return;
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int threads = 1; threads < cores; threads *= 2) threadCounts.add(threads);
+        threadCounts.add(cores);
+
+        System.out.println("\nParallel Linear Search Speedup (" + cores + " cores, mean ms per key):");
+        System.out.printf("%-22s %-12s %-10s %-12s %-10s%n", "Threads", "ArrayList", "Speedup", "LinkedList", "Speedup");
+        System.out.println("=".repeat(80));
+        if (raceResults != null) {
+            System.out.printf("%-22s %-12.4f %-10s %-12.4f %-10s%n", "race (Linear Search)",
+                raceResults.get("Linear Search - ArrayList").getMeanTime(), "",
+                raceResults.get("Linear Search - LinkedList").getMeanTime(), "");
+        }
+
+        double arrayBase = 0;
+        double linkedBase = 0;
+        for (int threads : threadCounts) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                ParallelLinearSearch search = new ParallelLinearSearch(pool);
+                double arrayMean = meanSearchTime(search, arrayList, testKeys);
+                double linkedMean = meanSearchTime(search, linkedList, testKeys);
+                if (threads == 1) {
+                    arrayBase = arrayMean;
+                    linkedBase = linkedMean;
+                }
+                System.out.printf("%-22d %-12.4f %-10s %-12.4f %-10s%n", threads,
+                    arrayMean, String.format("%.1fx", arrayBase / arrayMean),
+                    linkedMean, String.format("%.1fx", linkedBase / linkedMean));
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    // Scheduling cost of each executor strategy next to the cost of the searches it schedules.
+    // Cold is the first race on a fresh strategy (thread start-up included), warm a second one.
+    private void printExecutorOverhead(List<String> testKeys) {
+        List<String> rows = new ArrayList<>();
+        for (ExecutionStrategy strategy : ExecutionStrategy.all()) {
+            ConcurrentPerformanceAnalyzer analyzer = new ConcurrentPerformanceAnalyzer(strategy);
+            analyzer.runPerformanceTest(dataProviders, algorithms, testKeys);
+            double coldMs = analyzer.getLastWallNanos() / 1_000_000.0;
+            Map<String, AlgorithmStats> stats = analyzer.runPerformanceTest(dataProviders, algorithms, testKeys);
+            double warmMs = analyzer.getLastWallNanos() / 1_000_000.0;
+            long[] queue = analyzer.getDispatchLatency().percentiles(50, 99);
+            double searchMicros = stats.values().stream()
+                .mapToDouble(AlgorithmStats::getMeanTime).average().orElse(0) * 1000;
+            double emptyMicros = analyzer.measureEmptyTaskNanos(EMPTY_TASKS) / 1000;
+            analyzer.close();
+            rows.add(String.format("%-30s %-10.2f %-10.2f %-14.3f %-14.3f %-10.2f %-12.2f %-10.2f",
+                strategy.getName(), coldMs, warmMs, queue[0] / 1_000_000.0, queue[1] / 1_000_000.0,
+                emptyMicros, searchMicros, 100 * emptyMicros / (emptyMicros + searchMicros)));
+        }
+        System.out.println("\nExecutor Strategy Overhead (race wall time, submit-to-start queueing, empty-task cost vs mean search):");
+        System.out.printf("%-30s %-10s %-10s %-14s %-14s %-10s %-12s %-10s%n", "Strategy", "Cold(ms)", "Warm(ms)",
+            "Queue p50(ms)", "Queue p99(ms)", "Task(us)", "Search(us)", "Overhead%");
+        System.out.println("=".repeat(116));
+        rows.forEach(System.out::println);
+    }
+
+    // Every combination raced in isolation and under each concurrent schedule
+    private void printInterferenceReport(List<String> testKeys) {
+        Map<RaceMode, Map<String, AlgorithmStats>> results = new EnumMap<>(RaceMode.class);
+        for (RaceMode mode : RaceMode.values()) {
+            results.put(mode, performanceAnalyzer.runPerformanceTest(dataProviders, algorithms, testKeys, mode));
+        }
+        performanceAnalyzer.analyzeInterference(results);
+    }
+
+    // Mean ms per key over a few passes, after one untimed warm-up pass
+    private static double meanSearchTime(ParallelLinearSearch search, List<Article> list, List<String> keys) {
+        final int passes = 5;
+        for (String key : keys) search.search(list, key);
+        long startTime = System.nanoTime();
+        for (int pass = 0; pass < passes; pass++) {
+            for (String key : keys) search.search(list, key);
+        }
+        return (System.nanoTime() - startTime) / 1_000_000.0 / (passes * keys.size());
+    }
+
+    // Top-10 BM25 latency percentiles for keyword queries drawn from article titles, WAND vs exhaustive
+    private void printRankedQueryLatency(List<Article> data) {
+        Random random = new Random(RANKED_QUERY_SEED);
+        List<String> queries = new ArrayList<>();
+        for (int attempt = 0; attempt < 1000 && queries.size() < 200; attempt++) {
+            List<String> words = InvertedIndex.tokenize(data.get(random.nextInt(data.size())).getTitle());
+            if (words.isEmpty()) continue;
+            Collections.shuffle(words, random);
+            queries.add(String.join(" ", words.subList(0, Math.min(3, words.size()))));
+        }
+        int numQueries = queries.size();
+        if (numQueries == 0) return;
+
+        LatencyRecorder wandLatency = new LatencyRecorder();
+        LatencyRecorder exhaustiveLatency = new LatencyRecorder();
+        long wandScored = 0;
+        long exhaustiveScored = 0;
+        for (int i = 0; i < numQueries; i++) {
+            String query = queries.get(i);
+            long startTime = System.nanoTime();
+            wandScored += keywordRanker.topK(query, 10).getScoredPostings();
+            long midTime = System.nanoTime();
+            exhaustiveScored += keywordRanker.topKExhaustive(query, 10).getScoredPostings();
+            long endTime = System.nanoTime();
+            wandLatency.record(midTime - startTime);
+            exhaustiveLatency.record(endTime - midTime);
+        }
+
+        System.out.println("\nRanked Keyword Search (BM25 top 10, " + numQueries + " title queries):");
+        System.out.printf("%-20s %-10s %-10s %-10s %-10s %-16s%n",
+            "Method", "p50(ms)", "p90(ms)", "p99(ms)", "Max(ms)", "Postings/query");
+        System.out.println("=".repeat(80));
+        printLatencyRow("WAND", wandLatency, wandScored / numQueries);
+        printLatencyRow("Exhaustive", exhaustiveLatency, exhaustiveScored / numQueries);
+    }
+
+    private static void printLatencyRow(String name, LatencyRecorder latency, long postingsPerQuery) {
+        long[] percentiles = latency.percentiles(50, 90, 99);
+        System.out.printf("%-20s %-10.4f %-10.4f %-10.4f %-10.4f %-16d%n", name,
+            percentiles[0] / 1_000_000.0, percentiles[1] / 1_000_000.0, percentiles[2] / 1_000_000.0,
+            latency.max() / 1_000_000.0, postingsPerQuery);
+    }
+
     private void generateTheoreticalComplexityCharts() {
-        int[] sizes = {10, 50, 100, 500, 1000, 5000};
+        long[] sizes = ScalabilitySweep.powersOfTen(SyntheticArticles.MAX_ROWS);
         DefaultCategoryDataset dataset = new DefaultCategoryDataset();
         System.out.println("Generating theoretical complexity comparison...");
         
-        for (int n : sizes) {
-            dataset.addValue(n / 100.0, "Linear O(n)", String.valueOf(n));
-            dataset.addValue(Math.log(n) / Math.log(2), "Binary O(log n)", String.valueOf(n));
-            dataset.addValue(Math.sqrt(n), "Jump O(√n)", String.valueOf(n));
-            dataset.addValue(Math.log(n) / Math.log(2), "Exponential O(log n)", String.valueOf(n));
+        // log10 of the operation count, so O(n) at 10^8 and O(log n) share one readable axis
+        for (long n : sizes) {
+            String size = ScalabilitySweep.sizeLabel(n);
+            double log = Math.log(n) / Math.log(2);
+            dataset.addValue(Math.log10(n), "Linear O(n)", size);
+            dataset.addValue(Math.log10(log), "Binary O(log n)", size);
+            dataset.addValue(Math.log10(Math.sqrt(n)), "Jump O(√n)", size);
+            dataset.addValue(Math.log10(log), "Exponential O(log n)", size);
+            dataset.addValue(Math.log10(Math.log(log) / Math.log(2)), "Interpolation O(log log n)", size);
+            dataset.addValue(0, "Hash Index O(1)", size);
         }
         JFreeChart chart = ChartFactory.createLineChart(
                 "Theoretical Time Complexities",
                 "Input Size (n)",
-                "Operations (scaled for visualization)",
+                "log10 Operations",
                 dataset
         );
         chartGenerator.showChart(chart, "Theoretical Complexities");
     }
+
+    // Races every pair on synthetic corpora of 10^3 rows up to the chosen size and fits growth curves
+    private void runScalabilitySweep() {
+        System.out.printf("Enter the largest corpus size as a power of ten (3-8, Enter for 7; %d rows fit in this heap): ",
+            ScalabilitySweep.materializeLimit());
+        String input = ((ConsoleUserInterface) userInterface).getInput().trim();
+        int exponent = 7;
+        try {
+            if (!input.isEmpty()) exponent = Integer.parseInt(input);
+        } catch (NumberFormatException e) {
+            exponent = -1;
+        }
+        if (exponent < 3 || exponent > 8) {
+            System.out.println("Error: the exponent must be between 3 and 8");
+            return;
+        }
+        ScalabilitySweep.Result sweep = ScalabilitySweep.run(ScalabilitySweep.powersOfTen((long) Math.pow(10, exponent)));
+        sweep.print();
+        chartGenerator.generateScalabilityCharts(sweep);
+    }
     
     private List<String> prepareTestKeys(List<Article> articles, int numKeys) {
         List<String> keys = new ArrayList<>();
@@ -748,7 +2045,65 @@ public class Main {
         return keys;
     }
 
+    // Streams another CSV file into the live index in the background, optionally following it for
+    // appended rows; entering a followed file again stops following it
+    private void ingestCsvFile() {
+        System.out.print("Enter path of the CSV file to ingest: ");
+        String path = ((ConsoleUserInterface) userInterface).getInput().trim();
+        if (liveIndex.stopTailing(path)) {
+            System.out.println("Stopped following " + path + " (live index: " + liveIndex.size() + " articles).");
+            return;
+        }
+        if (!new File(path).canRead()) {
+            System.out.println("Error: cannot read " + path);
+            return;
+        }
+        System.out.print("Follow it for appended rows? (y/N): ");
+        if (((ConsoleUserInterface) userInterface).getInput().trim().equalsIgnoreCase("y")) {
+            try {
+                liveIndex.tail(path);
+                System.out.println("Following " + path + "; rows appended to it reach live lookups (option 6) and"
+                    + " the Concurrent Store every " + LiveArticleIndex.TAIL_POLL_MILLIS + " ms. Enter the same"
+                    + " path in option 5 to stop.");
+            } catch (IOException e) {
+                System.out.println("Error: cannot follow " + path + ": " + e.getMessage());
+            }
+            return;
+        }
+        int before = liveIndex.size();
+        liveIndex.ingestFile(path).whenComplete((count, error) -> {
+            if (error != null) {
+                System.err.println("\nIngestion of " + path + " failed: " + error.getMessage());
+            } else {
+                System.out.println("\nIngested " + count + " articles from " + path +
+                    " (live index: " + before + " -> " + liveIndex.size() + " articles; also in the Concurrent Store)");
+            }
+        });
+        System.out.println("Ingesting " + path + " in the background; live lookups (option 6) and searches on"
+            + " the Concurrent Store see articles as they arrive.");
+    }
+    
+    private void lookupLiveIndex() {
+        System.out.print("Enter Article ID: ");
+        String id = ((ConsoleUserInterface) userInterface).getInput().trim();
+        long startTime = System.nanoTime();
+        Article result = liveIndex.find(id);
+        double timeInSeconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+        
+        if (result != null) {
+            System.out.println("\nArticle found in live index (" + liveIndex.size() + " articles):");
+            System.out.println(result);
+        } else {
+            System.out.println("Error: Article not found in live index (" + liveIndex.size() + " articles).");
+        }
+        System.out.printf("Search completed in: %.9f seconds\n", timeInSeconds);
+    }
+
     private void closeResources() {
+        liveIndex.shutdown();
+        if (performanceAnalyzer instanceof ConcurrentPerformanceAnalyzer analyzer) {
+            analyzer.close();
+        }
         if (userInterface instanceof ConsoleUserInterface cui) {
             cui.close();
         }
@@ -756,33 +2111,48 @@ public class Main {
 }
 
 //hold statistics for each algorithm-data structure combination
+// Latencies of one algorithm/data structure pair. Safe to record from many threads at once: times
+// go into a LatencyRecorder (striped histograms merged on read) and the found count into a
+// LongAdder. Getters report milliseconds.
 class AlgorithmStats {
-    private double bestTime = Double.MAX_VALUE;
-    private double worstTime = Double.MIN_VALUE;
-    private double totalTime = 0;
-    private int foundCount = 0;
-    private int totalRuns = 0;
-    
+    private final LatencyRecorder latencies = new LatencyRecorder();
+    private final LongAdder foundCount = new LongAdder();
+
     public void addResult(double time, boolean found, int run) {
-        bestTime = Math.min(bestTime, time);
-        worstTime = Math.max(worstTime, time);
-        totalTime += time;
-        totalRuns++;
-        if (found) foundCount++;
+        addResultNanos(Math.round(time * 1_000_000.0), found);
     }
-    public double getBestTime() { 
-        return bestTime == Double.MAX_VALUE ? 0 : bestTime; 
+
+    public void addResultNanos(long nanos, boolean found) {
+        latencies.record(nanos);
+        if (found) foundCount.increment();
+    }
+
+    public double getBestTime() {
+        return latencies.min() / 1_000_000.0;
+    }
+    public double getWorstTime() {
+        return latencies.max() / 1_000_000.0;
     }
-    public double getWorstTime() { 
-        return worstTime == Double.MIN_VALUE ? 0 : worstTime; 
+    public double getMeanTime() {
+        return latencies.mean() / 1_000_000.0;
     }
-    public double getMeanTime() { 
-        return totalRuns > 0 ? totalTime / totalRuns : 0; 
+    public double getStdDev() {
+        return latencies.stdDev() / 1_000_000.0;
     }
-    public int getFoundCount() { 
-        return foundCount; 
+    public double getPercentile(double percentile) {
+        return latencies.percentile(percentile) / 1_000_000.0;
     }
-    public int getTotalRuns() { 
-        return totalRuns; 
+    // p50, p90, p99 and p99.9 from a single merge
+    public double[] getTailPercentiles() {
+        long[] nanos = latencies.percentiles(50, 90, 99, 99.9);
+        double[] millis = new double[nanos.length];
+        for (int i = 0; i < nanos.length; i++) millis[i] = nanos[i] / 1_000_000.0;
+        return millis;
     }
-}
\ No newline at end of file
+    public int getFoundCount() {
+        return foundCount.intValue();
+    }
+    public int getTotalRuns() {
+        return (int) latencies.count();
+    }
+}
@@ -0,0 +1,312 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// CSV reader that tokenizes the memory-mapped UTF-8 bytes directly.
+// Records and fields follow CSVReader exactly, but no line Strings or per-field StringBuilders
+// are created: kept fields are decoded straight from the mapped bytes and the category
+// ints are parsed in place. The reader thread finds record boundaries, workers parse chunks.
+public final class MappedCSVReader {
+    private static final String[] CATEGORY_NAMES = {"Computer Science", "Physics", "Mathematics",
+        "Statistics", "Quantitative Biology", "Quantitative Finance"};
+
+    private MappedCSVReader() {}
+
+    public static List<Article> readCSV(Path path, int threads) {
+        List<Article> articles = new ArrayList<>();
+        int workerCount = Math.max(1, threads);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                System.out.println("CSV file is larger than 2 GB, using the streaming reader instead");
+                return CSVReader.readCSVParallel(path.toString(), threads);
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            System.out.println("Reading CSV file: " + path + " (memory-mapped, " + workerCount + " parser threads)");
+
+            ExecutorService workers = Executors.newFixedThreadPool(workerCount);
+            try {
+                List<Future<CSVReader.ParsedChunk>> chunks = scanRecords(mapped, (int) size, workers);
+                int successfulReads = 0;
+                int errors = 0;
+                for (Future<CSVReader.ParsedChunk> future : chunks) {
+                    CSVReader.ParsedChunk chunk = future.get();
+                    articles.addAll(chunk.articles);
+                    for (String message : chunk.errorMessages) {
+                        errors++;
+                        if (errors <= CSVReader.MAX_REPORTED_ERRORS) {
+                            System.err.println(message);
+                        }
+                    }
+                    int before = successfulReads;
+                    successfulReads += chunk.articles.size();
+                    if (successfulReads / 1000 > before / 1000) {
+                        System.out.println("Processed " + (successfulReads / 1000) * 1000 + " articles...");
+                    }
+                }
+                CSVReader.printSummary(successfulReads, errors);
+            } finally {
+                workers.shutdownNow();
+            }
+        }
+        catch (NoSuchFileException e) {
+            System.err.println("Error: CSV file not found at path: " + path);
+            System.err.println("Please check the file path and ensure the file exists.");
+        }
+        catch (IOException e) {
+            System.err.println("Error reading CSV file: " + e.getMessage());
+        }
+        catch (InterruptedException e) {
+            System.err.println("CSV parsing interrupted: " + e.getMessage());
+            Thread.currentThread().interrupt();
+        }
+        catch (ExecutionException e) {
+            System.err.println("Error parsing CSV chunk: " + e.getCause());
+        }
+        return articles;
+    }
+
+    // Finds record boundaries with the same rule as CSVReader: a record ends at the first
+    // line break (outside or inside quotes) where it has at least 9 fields
+    private static List<Future<CSVReader.ParsedChunk>> scanRecords(ByteBuffer bytes, int limit,
+                                                                  ExecutorService workers) {
+        List<Future<CSVReader.ParsedChunk>> chunks = new ArrayList<>();
+        int pos = skipHeader(bytes, limit);
+        int line = 1;
+
+        RecordChunk chunk = new RecordChunk();
+        int recordStart = pos;
+        int recordLine = 2;
+        boolean inQuotes = false;
+        int fields = 1;
+
+        for (int i = pos; i < limit; i++) {
+            byte b = bytes.get(i);
+            if (b == '"') {
+                if (inQuotes && i + 1 < limit && bytes.get(i + 1) == '"') {
+                    i++; // escaped quote
+                } else {
+                    inQuotes = !inQuotes;
+                }
+            } else if (b == ',' && !inQuotes) {
+                fields++;
+            } else if (b == '\n' || b == '\r') {
+                int lineEnd = i;
+                if (b == '\r' && i + 1 < limit && bytes.get(i + 1) == '\n') i++;
+                line++;
+                if (fields >= CSVReader.EXPECTED_FIELDS) {
+                    if (chunk.add(recordStart, lineEnd, recordLine)) {
+                        chunks.add(workers.submit(parseChunkTask(bytes.duplicate(), chunk)));
+                        chunk = new RecordChunk();
+                    }
+                    recordStart = i + 1;
+                    recordLine = line + 1;
+                    inQuotes = false;
+                    fields = 1;
+                }
+            }
+        }
+        // Last line without a trailing line break
+        if (recordStart < limit && fields >= CSVReader.EXPECTED_FIELDS) {
+            chunk.add(recordStart, limit, recordLine);
+        }
+        if (chunk.count > 0) {
+            chunks.add(workers.submit(parseChunkTask(bytes.duplicate(), chunk)));
+        }
+        return chunks;
+    }
+
+    private static int skipHeader(ByteBuffer bytes, int limit) {
+        int end = 0;
+        while (end < limit && bytes.get(end) != '\n' && bytes.get(end) != '\r') end++;
+        if (limit > 0) {
+            byte[] header = new byte[end];
+            bytes.get(0, header);
+            String line = new String(header, StandardCharsets.UTF_8);
+            System.out.println("CSV Header: " + line.substring(0, Math.min(100, line.length())) + "...");
+        }
+        if (end < limit && bytes.get(end) == '\r' && end + 1 < limit && bytes.get(end + 1) == '\n') end++;
+        return Math.min(end + 1, limit);
+    }
+
+    private static Callable<CSVReader.ParsedChunk> parseChunkTask(ByteBuffer bytes, RecordChunk records) {
+        return () -> {
+            CSVReader.ParsedChunk parsed = new CSVReader.ParsedChunk(records.count);
+            FieldDecoder decoder = new FieldDecoder(bytes);
+            for (int r = 0; r < records.count; r++) {
+                try {
+                    parsed.articles.add(decoder.parseRecord(records.starts[r], records.ends[r]));
+                }
+                catch (Exception e) {
+                    parsed.errorMessages.add("Error parsing record starting at line " + records.lines[r] + ": " + e.getMessage());
+                }
+            }
+            return parsed;
+        };
+    }
+
+    // Byte ranges of up to RECORDS_PER_CHUNK records
+    private static class RecordChunk {
+        final int[] starts = new int[CSVReader.RECORDS_PER_CHUNK];
+        final int[] ends = new int[CSVReader.RECORDS_PER_CHUNK];
+        final int[] lines = new int[CSVReader.RECORDS_PER_CHUNK];
+        int count = 0;
+
+        // Returns true once the chunk is full
+        boolean add(int start, int end, int line) {
+            starts[count] = start;
+            ends[count] = end;
+            lines[count] = line;
+            return ++count == starts.length;
+        }
+    }
+
+    // Per-worker field decoder with a reusable scratch buffer
+    private static class FieldDecoder {
+        private final ByteBuffer bytes;
+        private final int[] fieldStarts = new int[CSVReader.EXPECTED_FIELDS];
+        private final int[] fieldEnds = new int[CSVReader.EXPECTED_FIELDS];
+        private byte[] scratch = new byte[256];
+        private int textStart;
+        private int textEnd;
+
+        FieldDecoder(ByteBuffer bytes) {
+            this.bytes = bytes;
+        }
+
+        Article parseRecord(int start, int end) {
+            splitFields(start, end);
+            try {
+                String id = text(0);
+                String title = text(1);
+                String abstractText = text(2);
+                int[] categories = new int[CATEGORY_NAMES.length];
+                for (int c = 0; c < categories.length; c++) {
+                    categories[c] = integer(3 + c, CATEGORY_NAMES[c]);
+                }
+                if (id.isEmpty()) {
+                    throw new IllegalArgumentException("ID cannot be empty");
+                }
+                return new Article(id, title, abstractText, categories[0], categories[1],
+                    categories[2], categories[3], categories[4], categories[5]);
+            } catch (Exception e) {
+                throw new RuntimeException("Failed to create Article object: " + e.getMessage());
+            }
+        }
+
+        // Records the byte ranges of the first 9 fields; later fields are never decoded
+        private void splitFields(int start, int end) {
+            boolean inQuotes = false;
+            int field = 0;
+            fieldStarts[0] = start;
+            for (int i = start; i < end && field < CSVReader.EXPECTED_FIELDS; i++) {
+                byte b = bytes.get(i);
+                if (b == '"') {
+                    if (inQuotes && i + 1 < end && bytes.get(i + 1) == '"') i++;
+                    else inQuotes = !inQuotes;
+                } else if (b == ',' && !inQuotes) {
+                    fieldEnds[field++] = i;
+                    if (field < CSVReader.EXPECTED_FIELDS) fieldStarts[field] = i + 1;
+                }
+            }
+            if (field < CSVReader.EXPECTED_FIELDS) fieldEnds[field] = end;
+        }
+
+        // Same result as CSVReader.cleanField on the parsed field
+        private String text(int field) {
+            clean(field);
+            if (textEnd - textStart >= 2 && scratch[textStart] == '"' && scratch[textEnd - 1] == '"') {
+                return CSVReader.cleanField(raw(field)); // field wrapped in escaped quotes: rare
+            }
+            return new String(scratch, textStart, textEnd - textStart, StandardCharsets.UTF_8);
+        }
+
+        // Same result as CSVReader.parseIntegerField, parsing plain digits without a String
+        private int integer(int field, String fieldName) {
+            clean(field);
+            int length = textEnd - textStart;
+            if (length == 0) return 0;
+            if (length <= 9) {
+                int value = 0;
+                int i = textStart;
+                while (i < textEnd && scratch[i] >= '0' && scratch[i] <= '9') {
+                    value = value * 10 + (scratch[i++] - '0');
+                }
+                if (i == textEnd) return value;
+            }
+            return CSVReader.parseIntegerField(raw(field), fieldName);
+        }
+
+        // Drops quote characters, collapses whitespace runs (line breaks included) to one space
+        // and trims, leaving the cleaned bytes in scratch[textStart, textEnd)
+        private void clean(int field) {
+            int from = fieldStarts[field];
+            int to = fieldEnds[field];
+            if (scratch.length < to - from) scratch = new byte[Math.max(to - from, scratch.length * 2)];
+            int length = 0;
+            boolean inQuotes = false;
+            boolean inWhitespace = false;
+            for (int i = from; i < to; i++) {
+                byte b = bytes.get(i);
+                if (b == '"') {
+                    if (inQuotes && i + 1 < to && bytes.get(i + 1) == '"') {
+                        i++;
+                    } else {
+                        inQuotes = !inQuotes;
+                        continue;
+                    }
+                }
+                if (b == ' ' || b == '\t' || b == '\n' || b == '\r' || b == 0x0B || b == '\f') {
+                    if (!inWhitespace) scratch[length++] = ' ';
+                    inWhitespace = true;
+                } else {
+                    scratch[length++] = b;
+                    inWhitespace = false;
+                }
+            }
+            int start = 0;
+            while (start < length && (scratch[start] & 0xFF) <= ' ') start++;
+            while (length > start && (scratch[length - 1] & 0xFF) <= ' ') length--;
+            textStart = start;
+            textEnd = length;
+        }
+
+        // Parsed field text exactly as CSVReader sees it: quotes removed, line breaks joined with a space
+        private String raw(int field) {
+            int from = fieldStarts[field];
+            int to = fieldEnds[field];
+            byte[] out = new byte[to - from];
+            int length = 0;
+            boolean inQuotes = false;
+            for (int i = from; i < to; i++) {
+                byte b = bytes.get(i);
+                if (b == '"') {
+                    if (inQuotes && i + 1 < to && bytes.get(i + 1) == '"') {
+                        i++;
+                    } else {
+                        inQuotes = !inQuotes;
+                        continue;
+                    }
+                } else if (b == '\r' || b == '\n') {
+                    if (b == '\r' && i + 1 < to && bytes.get(i + 1) == '\n') i++;
+                    b = ' ';
+                }
+                out[length++] = b;
+            }
+            return new String(out, 0, length, StandardCharsets.UTF_8);
+        }
+    }
+}
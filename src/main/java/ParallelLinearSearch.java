@@ -0,0 +1,143 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Linear search spread over a ForkJoinPool. Like the sequential one it needs no ordering, so it also
+// works on unsorted data. Random-access lists are split recursively into index ranges. A LinkedList
+// cannot be split without walking it, so the calling thread walks it once and hands every chunk of
+// nodes to the pool as an array: workers compare IDs while the walk goes on.
+// All tasks share the lowest match index found so far. A task stops once it has passed it and the
+// walk stops handing out chunks beyond it, so the rest of the work is cancelled as soon as a match
+// turns up, and the result is the same first match linearSearch returns.
+public final class ParallelLinearSearch {
+    // Below this many elements per task the fork/join overhead outweighs the scan
+    static final int MIN_CHUNK = 4096;
+    // A scanning task re-reads the shared match index every CHECK_INTERVAL elements
+    private static final int CHECK_INTERVAL = 256;
+    private static final int NOT_FOUND = Integer.MAX_VALUE;
+
+    private final ForkJoinPool pool;
+
+    public ParallelLinearSearch(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public static ParallelLinearSearch common() {
+        return new ParallelLinearSearch(ForkJoinPool.commonPool());
+    }
+
+    public int parallelism() {
+        return pool.getParallelism();
+    }
+
+    public int search(List<Article> list, String key) {
+        return search(list, key, 0, list.size());
+    }
+
+    public int search(List<Article> list, String key, int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, list.size());
+        int n = toIndex - fromIndex;
+        if (pool.getParallelism() == 1 || n < 2 * MIN_CHUNK) {
+            return SearchAlgorithms.linearSearch(list, key, fromIndex, toIndex);
+        }
+        // About four chunks per worker so a slow chunk does not leave the others idle
+        int chunk = Math.max(MIN_CHUNK, n / (4 * pool.getParallelism()));
+        AtomicInteger match = new AtomicInteger(NOT_FOUND);
+        if (list instanceof RandomAccess) {
+            pool.invoke(new RangeScan(list, key, fromIndex, toIndex, chunk, match));
+        } else {
+            scanSequential(list, key, fromIndex, toIndex, chunk, match);
+        }
+        int index = match.get();
+        return index == NOT_FOUND ? -1 : index;
+    }
+
+    // One pass over the nodes on the calling thread; the ID compares run on the pool
+    private void scanSequential(List<Article> list, String key, int fromIndex, int toIndex, int chunk,
+                                AtomicInteger match) {
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        ListIterator<Article> iterator = list.listIterator(fromIndex);
+        for (int base = fromIndex; base < toIndex && base < match.get(); base += chunk) {
+            Article[] batch = new Article[Math.min(chunk, toIndex - base)];
+            for (int k = 0; k < batch.length; k++) {
+                batch[k] = iterator.next();
+            }
+            tasks.add(pool.submit(new BatchScan(batch, base, key, match)));
+        }
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+    }
+
+    // Records index as a match unless a lower one is already known
+    private static void found(AtomicInteger match, int index) {
+        match.accumulateAndGet(index, Math::min);
+    }
+
+    private static final class RangeScan extends RecursiveAction {
+        private final List<Article> list;
+        private final String key;
+        private final int fromIndex;
+        private final int toIndex;
+        private final int chunk;
+        private final AtomicInteger match;
+
+        RangeScan(List<Article> list, String key, int fromIndex, int toIndex, int chunk, AtomicInteger match) {
+            this.list = list;
+            this.key = key;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.chunk = chunk;
+            this.match = match;
+        }
+
+        @Override
+        protected void compute() {
+            if (fromIndex >= match.get()) return;
+            if (toIndex - fromIndex > chunk) {
+                int mid = (fromIndex + toIndex) >>> 1;
+                invokeAll(new RangeScan(list, key, fromIndex, mid, chunk, match),
+                          new RangeScan(list, key, mid, toIndex, chunk, match));
+                return;
+            }
+            for (int i = fromIndex; i < toIndex; i++) {
+                if ((i - fromIndex) % CHECK_INTERVAL == 0 && i >= match.get()) return;
+                if (list.get(i).getId().equals(key)) {
+                    found(match, i);
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final class BatchScan extends RecursiveAction {
+        private final Article[] batch;
+        private final int base;
+        private final String key;
+        private final AtomicInteger match;
+
+        BatchScan(Article[] batch, int base, String key, AtomicInteger match) {
+            this.batch = batch;
+            this.base = base;
+            this.key = key;
+            this.match = match;
+        }
+
+        @Override
+        protected void compute() {
+            for (int k = 0; k < batch.length; k++) {
+                if (k % CHECK_INTERVAL == 0 && base + k >= match.get()) return;
+                if (batch[k].getId().equals(key)) {
+                    found(match, base + k);
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,306 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Times every algorithm / data structure pair on synthetic corpora of growing size and fits growth
+// curves to the medians. Sizes the heap can hold are materialized and raced on every structure
+// (index lookups, which never probe the structure, once per size on the ArrayList's index);
+// bigger ones run on the generator's lazy view, with the algorithms that need no per-row index.
+// A pair whose extrapolated cost at the next size exceeds the time budget is cut off there.
+// Usage: java -Xmx4g ScalabilitySweep [largestSize]
+public final class ScalabilitySweep {
+    static final long SEED = 42L;
+    static final int LOOKUPS = 40;
+    static final int WARMUP_LOOKUPS = 10;
+    // Warm-up also runs until this much time has passed, so the first (small) sizes see compiled code
+    static final long WARMUP_NANOS = 20_000_000L;
+    // Stop timing a pair once LOOKUPS lookups at the next size are expected to take longer than this
+    static final double BUDGET_MS = 2_000;
+    // Heap per materialized row with every structure and index built: about 300 bytes measured at
+    // 10^6 rows, doubled for the copies alive while the structures are being built
+    static final long BYTES_PER_ROW = 600;
+    // A step that grows CLIFF_FACTOR times faster than the fitted model is reported as a cliff
+    static final double CLIFF_FACTOR = 3;
+    // Below this the timer's resolution decides the ratio, so smaller steps never count as cliffs
+    static final double CLIFF_MIN_MICROS = 1;
+    static final String VIEW_STRUCTURE = "Synthetic View";
+
+    // Growth models tried by the fit, cheapest first
+    enum Model {
+        CONSTANT("O(1)"), LOG_LOG("O(log log n)"), LOG("O(log n)"), SQRT("O(sqrt n)"), LINEAR("O(n)");
+
+        private final String label;
+
+        Model(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        double at(double n) {
+            double log = Math.log(n) / Math.log(2);
+            return switch (this) {
+                case CONSTANT -> 1;
+                case LOG_LOG -> Math.log(log) / Math.log(2);
+                case LOG -> log;
+                case SQRT -> Math.sqrt(n);
+                case LINEAR -> n;
+            };
+        }
+    }
+
+    // Least-squares fit in log space of one pair's medians
+    public static final class Fit {
+        private final Model model;
+        private final double scale;
+        private final double exponent;
+        private final int cliffIndex;
+
+        Fit(Model model, double scale, double exponent, int cliffIndex) {
+            this.model = model;
+            this.scale = scale;
+            this.exponent = exponent;
+            this.cliffIndex = cliffIndex;
+        }
+
+        public Model getModel() { return model; }
+        // Slope of log(time) over log(n): 0 constant, 0.5 square root, 1 linear
+        public double getExponent() { return exponent; }
+        // Index into the sizes of the first step that grew CLIFF_FACTOR times faster than the model, or -1
+        public int getCliffIndex() { return cliffIndex; }
+
+        public double predictMicros(long n) {
+            return scale * model.at(n);
+        }
+    }
+
+    public static final class Result {
+        private final long[] sizes;
+        // Median lookup time in microseconds per pair and size, NaN where the pair did not run
+        private final Map<String, double[]> medians;
+        private final Map<String, Fit> fits = new LinkedHashMap<>();
+        private final long materializeLimit;
+
+        Result(long[] sizes, Map<String, double[]> medians, long materializeLimit) {
+            this.sizes = sizes;
+            this.medians = medians;
+            this.materializeLimit = materializeLimit;
+            medians.forEach((pair, times) -> {
+                Fit fit = fit(sizes, times);
+                if (fit != null) fits.put(pair, fit);
+            });
+        }
+
+        public long[] getSizes() { return sizes; }
+        public Map<String, double[]> getMedians() { return medians; }
+        public Map<String, Fit> getFits() { return fits; }
+
+        public void print() {
+            System.out.println("\nScalability Sweep: median lookup time (us) per corpus size");
+            StringBuilder header = new StringBuilder(String.format("%-46s", "Algorithm"));
+            for (long size : sizes) header.append(String.format(" %-10s", sizeLabel(size)));
+            header.append(String.format(" %-8s %-14s %-10s", "Slope", "Best fit", "Cliff at"));
+            System.out.println(header);
+            System.out.println("=".repeat(header.length()));
+            medians.forEach((pair, times) -> {
+                StringBuilder row = new StringBuilder(String.format("%-46s", pair));
+                for (double time : times) {
+                    row.append(String.format(" %-10s", Double.isNaN(time) ? "-" : String.format("%.3f", time)));
+                }
+                Fit fit = fits.get(pair);
+                if (fit != null) {
+                    row.append(String.format(" %-8.2f %-14s %-10s", fit.getExponent(), fit.getModel().getLabel(),
+                        fit.getCliffIndex() < 0 ? "-" : sizeLabel(sizes[fit.getCliffIndex()])));
+                }
+                System.out.println(row);
+            });
+            System.out.println("(\"-\": not materialized at that size, or cut off by the "
+                + BUDGET_MS / 1000 + " s budget per size)");
+            if (sizes.length > 0 && sizes[sizes.length - 1] > materializeLimit) {
+                System.out.println("(ArrayList times above " + materializeLimit
+                    + " rows are measured on the lazy synthetic view, which builds each probed article)");
+            }
+        }
+    }
+
+    // Sizes 10^3, 10^4, ... up to largest
+    public static long[] powersOfTen(long largest) {
+        List<Long> sizes = new ArrayList<>();
+        for (long size = SyntheticArticles.MIN_ROWS; size <= largest; size *= 10) sizes.add(size);
+        return sizes.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    // Largest corpus whose structures and indexes fit in the heap
+    public static long materializeLimit() {
+        return Runtime.getRuntime().maxMemory() / BYTES_PER_ROW;
+    }
+
+    public static Result run(long[] sizes) {
+        Map<String, double[]> medians = new LinkedHashMap<>();
+        long limit = materializeLimit();
+        for (int s = 0; s < sizes.length; s++) {
+            int n = (int) sizes[s];
+            SyntheticArticles corpus = new SyntheticArticles(n, SEED);
+            boolean materialized = n <= limit;
+            System.out.printf("Sweeping %s rows (%d months, %s)...%n", sizeLabel(n), corpus.monthCount(),
+                materialized ? "materialized" : "lazy view, " + limit + " rows fit in the heap");
+
+            List<SearchAlgorithm<Article>> algorithms = Main.defaultAlgorithms();
+            List<DataStructureProvider<Article>> providers;
+            if (materialized) {
+                providers = Main.defaultProviders(corpus.idArticles());
+            } else {
+                providers = List.of(new ViewProvider(corpus.view()));
+            }
+            List<String> keys = corpus.keys(WARMUP_LOOKUPS + LOOKUPS, 0.5, SEED + n);
+
+            for (SearchAlgorithm<Article> algorithm : algorithms) {
+                // Every provider's index would time the same lookup, so index-backed algorithms only
+                // race the first one, the ArrayList
+                List<DataStructureProvider<Article>> raced =
+                    algorithm.usesIndex() ? providers.subList(0, 1) : providers;
+                for (DataStructureProvider<Article> provider : raced) {
+                    // Beyond the limit the view stands in for ArrayList, so each algorithm keeps one curve
+                    String pair = algorithm.labelFor(materialized ? provider.getName() : "ArrayList");
+                    double[] times = medians.computeIfAbsent(pair, k -> newRow(sizes.length));
+                    // A per-row index over the view would not fit in the heap either
+                    if (!materialized && algorithm.usesIndex()) continue;
+                    if (s > 0 && !withinBudget(times, sizes, s)) continue;
+                    List<Article> list = provider.getList();
+                    algorithm.prepare(list);
+                    times[s] = medianMicros(algorithm, list, keys);
+                }
+            }
+        }
+        return new Result(sizes, medians, limit);
+    }
+
+    private static double[] newRow(int length) {
+        double[] row = new double[length];
+        Arrays.fill(row, Double.NaN);
+        return row;
+    }
+
+    // Whether the last measured time, grown linearly to size s, still fits the budget
+    private static boolean withinBudget(double[] times, long[] sizes, int s) {
+        for (int previous = s - 1; previous >= 0; previous--) {
+            if (Double.isNaN(times[previous])) continue;
+            double predictedMs = times[previous] / 1000 * ((double) sizes[s] / sizes[previous]) * LOOKUPS;
+            return predictedMs <= BUDGET_MS;
+        }
+        return true;
+    }
+
+    private static double medianMicros(SearchAlgorithm<Article> algorithm, List<Article> list, List<String> keys) {
+        long warmupEnd = System.nanoTime() + WARMUP_NANOS;
+        for (int i = 0; i < WARMUP_LOOKUPS || System.nanoTime() < warmupEnd; i++) {
+            timeLookup(algorithm, list, keys.get(i % WARMUP_LOOKUPS), null);
+        }
+        AlgorithmStats stats = new AlgorithmStats();
+        for (int i = WARMUP_LOOKUPS; i < keys.size(); i++) {
+            timeLookup(algorithm, list, keys.get(i), stats);
+        }
+        return stats.getPercentile(50) * 1000;
+    }
+
+    private static void timeLookup(SearchAlgorithm<Article> algorithm, List<Article> list, String key,
+                                   AlgorithmStats stats) {
+        long startTime = System.nanoTime();
+        boolean found = false;
+        try {
+            found = algorithm.search(list, key) != -1;
+        } catch (Exception e) {
+            System.err.println("Error in " + algorithm.getName() + ": " + e.getMessage());
+        }
+        long endTime = System.nanoTime();
+        if (stats != null) stats.addResultNanos(endTime - startTime, found);
+    }
+
+    // Picks the model with the smallest squared log-residual; needs three sizes or more
+    static Fit fit(long[] sizes, double[] times) {
+        List<Integer> measured = new ArrayList<>();
+        for (int s = 0; s < times.length; s++) {
+            if (!Double.isNaN(times[s]) && times[s] > 0) measured.add(s);
+        }
+        if (measured.size() < 3) return null;
+
+        Model best = null;
+        double bestScale = 0;
+        double bestResidual = Double.MAX_VALUE;
+        for (Model model : Model.values()) {
+            double logScale = 0;
+            for (int s : measured) logScale += Math.log(times[s]) - Math.log(model.at(sizes[s]));
+            logScale /= measured.size();
+            double residual = 0;
+            for (int s : measured) {
+                double error = Math.log(times[s]) - Math.log(model.at(sizes[s])) - logScale;
+                residual += error * error;
+            }
+            if (residual < bestResidual) {
+                best = model;
+                bestScale = Math.exp(logScale);
+                bestResidual = residual;
+            }
+        }
+
+        // Slope of the log-log regression line
+        double meanX = 0;
+        double meanY = 0;
+        for (int s : measured) {
+            meanX += Math.log(sizes[s]);
+            meanY += Math.log(times[s]);
+        }
+        meanX /= measured.size();
+        meanY /= measured.size();
+        double covariance = 0;
+        double varianceX = 0;
+        for (int s : measured) {
+            double dx = Math.log(sizes[s]) - meanX;
+            covariance += dx * (Math.log(times[s]) - meanY);
+            varianceX += dx * dx;
+        }
+
+        int cliff = -1;
+        for (int k = 1; k < measured.size() && cliff < 0; k++) {
+            int from = measured.get(k - 1);
+            int to = measured.get(k);
+            double observed = times[to] / times[from];
+            double expected = best.at(sizes[to]) / best.at(sizes[from]);
+            if (times[to] >= CLIFF_MIN_MICROS && observed > CLIFF_FACTOR * expected) cliff = to;
+        }
+        return new Fit(best, bestScale, covariance / varianceX, cliff);
+    }
+
+    // "10^3" .. "10^8" for powers of ten, the plain number otherwise
+    static String sizeLabel(long size) {
+        int exponent = (int) Math.round(Math.log10(size));
+        return Math.pow(10, exponent) == size ? "10^" + exponent : Long.toString(size);
+    }
+
+    // Lazy synthetic list, random access like an ArrayList
+    private static final class ViewProvider implements DataStructureProvider<Article> {
+        private final List<Article> list;
+
+        ViewProvider(List<Article> list) {
+            this.list = list;
+        }
+
+        @Override
+        public List<Article> getList() { return list; }
+
+        @Override
+        public String getName() { return VIEW_STRUCTURE; }
+
+        @Override
+        public boolean isOptimalForRandomAccess() { return true; }
+    }
+
+    public static void main(String[] args) {
+        long largest = args.length > 0 ? Long.parseLong(args[0]) : SyntheticArticles.MAX_ROWS;
+        run(powersOfTen(largest)).print();
+    }
+}
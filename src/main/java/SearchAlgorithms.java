@@ -1,29 +1,56 @@
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
 
 public class SearchAlgorithms {
     
+    // The *ArrayList variants work on any random-access list (ArrayList, store snapshots) and on
+    // SkipLinkedList, whose get(i) is O(log n). The *LinkedList variants never call get(i): they move
+    // one ListIterator cursor back and forth from its last position, so a search walks O(n) nodes at worst.
+    // Every search has a bounded form over [fromIndex, toIndex) that works in place: indices are
+    // into the whole list and nothing is copied (random-access searches allocate nothing at all).
+
     // Linear Search
-    public static int linearSearchArrayList(ArrayList<Article> list, String key) {
-        for (int i = 0; i < list.size(); i++) {
+    public static int linearSearchArrayList(List<Article> list, String key) {
+        return linearSearchArrayList(list, key, 0, list.size());
+    }
+
+    public static int linearSearchArrayList(List<Article> list, String key, int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
             if (list.get(i).getId().equals(key)) return i;
         }
         return -1;
     }
 
-    public static int linearSearchLinkedList(LinkedList<Article> list, String key) {
-        int index = 0;
-        for (Article article : list) {
-            if (article.getId().equals(key)) return index;
-            index++;
+    public static int linearSearchLinkedList(List<Article> list, String key) {
+        return linearSearchLinkedList(list, key, 0, list.size());
+    }
+
+    // Any sequential list: LinkedList or SkipLinkedList
+    public static int linearSearchLinkedList(List<Article> list, String key, int fromIndex, int toIndex) {
+        ListIterator<Article> cursor = list.listIterator(fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (cursor.next().getId().equals(key)) return i;
         }
         return -1;
     }
 
     // Binary Search
-    public static int binarySearchArrayList(ArrayList<Article> list, String key) {
-        int low = 0, high = list.size() - 1;
+    public static int binarySearchArrayList(List<Article> list, String key) {
+        return binarySearchArrayList(list, key, 0, list.size());
+    }
+
+    public static int binarySearchArrayList(List<Article> list, String key, int fromIndex, int toIndex) {
+        int low = fromIndex, high = toIndex - 1;
         while (low <= high) {
             int mid = low + (high - low) / 2;
             int cmp = list.get(mid).getId().compareTo(key);
@@ -35,11 +62,17 @@ public class SearchAlgorithms {
     }
 
     public static int binarySearchLinkedList(LinkedList<Article> list, String key) {
-        int low = 0, high = list.size() - 1;
+        return binarySearchLinkedList(list, key, 0, list.size());
+    }
+
+    public static int binarySearchLinkedList(LinkedList<Article> list, String key, int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) return -1;
+        int low = fromIndex, high = toIndex - 1;
+        // Each probe moves the cursor half as far as the one before: about n node hops in total
+        LinkedCursor cursor = new LinkedCursor(list, low + (high - low) / 2);
         while (low <= high) {
             int mid = low + (high - low) / 2;
-            // Accessing LinkedList element by index is O(n)
-            int cmp = list.get(mid).getId().compareTo(key);
+            int cmp = cursor.at(mid).getId().compareTo(key);
             if (cmp == 0) return mid;
             if (cmp < 0) low = mid + 1;
             else high = mid - 1;
@@ -48,105 +81,854 @@ public class SearchAlgorithms {
     }
 
     // Jump Search
-    public static int jumpSearchArrayList(ArrayList<Article> list, String key) {
-        int n = list.size();
-        if (n == 0) return -1;
-        int step = (int) Math.sqrt(n);
+    public static int jumpSearchArrayList(List<Article> list, String key) {
+        return jumpSearchArrayList(list, key, 0, list.size());
+    }
+
+    public static int jumpSearchArrayList(List<Article> list, String key, int fromIndex, int toIndex) {
+        int n = toIndex - fromIndex;
+        if (n <= 0) return -1;
+        int blockSize = (int) Math.sqrt(n);
+        int step = blockSize;
         int prev = 0;
 
-        while (prev < n && list.get(Math.min(step, n) - 1).getId().compareTo(key) < 0) {
+        while (prev < n && list.get(fromIndex + Math.min(step, n) - 1).getId().compareTo(key) < 0) {
             prev = step;
-            step += (int) Math.sqrt(n);
+            step += blockSize;
             if (prev >= n) return -1;
         }
 
         while (prev < Math.min(step, n)) {
-            if (list.get(prev).getId().equals(key)) return prev;
+            if (list.get(fromIndex + prev).getId().equals(key)) return fromIndex + prev;
             prev++;
         }
         return -1;
     }
 
     public static int jumpSearchLinkedList(LinkedList<Article> list, String key) {
-        int n = list.size();
-        if (n == 0) return -1;
-        int step = (int) Math.sqrt(n);
+        return jumpSearchLinkedList(list, key, 0, list.size());
+    }
+
+    public static int jumpSearchLinkedList(LinkedList<Article> list, String key, int fromIndex, int toIndex) {
+        int n = toIndex - fromIndex;
+        if (n <= 0) return -1;
+        int blockSize = (int) Math.sqrt(n);
+        int step = blockSize;
         int prev = 0;
+        LinkedCursor cursor = new LinkedCursor(list, fromIndex);
 
-        while (prev < n && list.get(Math.min(step, n) - 1).getId().compareTo(key) < 0) {
+        while (prev < n && cursor.at(fromIndex + Math.min(step, n) - 1).getId().compareTo(key) < 0) {
             prev = step;
-            step += (int) Math.sqrt(n);
+            step += blockSize;
             if (prev >= n) return -1;
         }
 
+        // Step back to the start of the block once, then scan it forward
         while (prev < Math.min(step, n)) {
-            if (list.get(prev).getId().equals(key)) return prev;
+            if (cursor.at(fromIndex + prev).getId().equals(key)) return fromIndex + prev;
             prev++;
         }
         return -1;
     }
 
     // Exponential Search
-    public static int exponentialSearchArrayList(ArrayList<Article> list, String key) {
-        int n = list.size();
-        if (n == 0) return -1;
-        if (list.get(0).getId().equals(key)) return 0;
+    public static int exponentialSearchArrayList(List<Article> list, String key) {
+        return exponentialSearchArrayList(list, key, 0, list.size());
+    }
+
+    public static int exponentialSearchArrayList(List<Article> list, String key, int fromIndex, int toIndex) {
+        int n = toIndex - fromIndex;
+        if (n <= 0) return -1;
+        if (list.get(fromIndex).getId().equals(key)) return fromIndex;
         int i = 1;
 
-        while (i < n && list.get(i).getId().compareTo(key) <= 0) {
+        while (i < n && list.get(fromIndex + i).getId().compareTo(key) <= 0) {
             i *= 2;
         }
-        int result = binarySearchArrayList(new ArrayList<>(list.subList(i / 2, Math.min(i, n))), key);
-        return result != -1 ? result + (i / 2) : -1;
+        // Bounded search over [i/2, min(i, n)) in place, no sublist copy
+        return binarySearchArrayList(list, key, fromIndex + i / 2, fromIndex + Math.min(i, n));
     }
 
     public static int exponentialSearchLinkedList(LinkedList<Article> list, String key) {
-        int n = list.size();
-        if (n == 0) return -1;
-        if (list.get(0).getId().equals(key)) return 0;
+        return exponentialSearchLinkedList(list, key, 0, list.size());
+    }
+
+    public static int exponentialSearchLinkedList(LinkedList<Article> list, String key, int fromIndex, int toIndex) {
+        int n = toIndex - fromIndex;
+        if (n <= 0) return -1;
+        LinkedCursor cursor = new LinkedCursor(list, fromIndex);
+        if (cursor.at(fromIndex).getId().equals(key)) return fromIndex;
+        int i = 1;
+
+        while (i < n && cursor.at(fromIndex + i).getId().compareTo(key) <= 0) {
+            i *= 2;
+        }
+        // Binary search the last gap with the same cursor, which is already at its right edge
+        int low = fromIndex + i / 2, high = fromIndex + Math.min(i, n) - 1;
+        while (low <= high) {
+            int mid = low + (high - low) / 2;
+            int cmp = cursor.at(mid).getId().compareTo(key);
+            if (cmp == 0) return mid;
+            if (cmp < 0) low = mid + 1;
+            else high = mid - 1;
+        }
+        return -1;
+    }
+
+    // Packed ID column search: probes the primitive column instead of Article/String pointers
+    public static int linearSearchColumn(ArticleIdColumn column, String key) {
+        return linearSearchColumn(column, key, 0, column.size());
+    }
+
+    public static int linearSearchColumn(ArticleIdColumn column, String key, int fromIndex, int toIndex) {
+        long[] ids = column.numericIds();
+        if (ids != null) {
+            long encoded = ArticleIdColumn.encode(key);
+            if (encoded == ArticleIdColumn.NOT_ENCODABLE) return -1;
+            for (int i = fromIndex; i < toIndex; i++) {
+                if (ids[i] == encoded) return i;
+            }
+            return -1;
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (column.compareAt(i, key) == 0) return i;
+        }
+        return -1;
+    }
+
+    public static int binarySearchColumn(ArticleIdColumn column, String key) {
+        return binarySearchColumn(column, key, 0, column.size());
+    }
+
+    public static int binarySearchColumn(ArticleIdColumn column, String key, int fromIndex, int toIndex) {
+        int low = fromIndex, high = toIndex - 1;
+        long[] ids = column.numericIds();
+        if (ids != null) {
+            long encoded = ArticleIdColumn.encode(key);
+            if (encoded == ArticleIdColumn.NOT_ENCODABLE) return -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                long id = ids[mid];
+                if (id == encoded) return mid;
+                if (id < encoded) low = mid + 1;
+                else high = mid - 1;
+            }
+            return -1;
+        }
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = column.compareAt(mid, key);
+            if (cmp == 0) return mid;
+            if (cmp < 0) low = mid + 1;
+            else high = mid - 1;
+        }
+        return -1;
+    }
+
+    public static int jumpSearchColumn(ArticleIdColumn column, String key) {
+        return jumpSearchColumn(column, key, 0, column.size());
+    }
+
+    public static int jumpSearchColumn(ArticleIdColumn column, String key, int fromIndex, int toIndex) {
+        int n = toIndex - fromIndex;
+        if (n <= 0) return -1;
+        long[] ids = column.numericIds();
+        long encoded = ids != null ? ArticleIdColumn.encode(key) : 0;
+        if (ids != null && encoded == ArticleIdColumn.NOT_ENCODABLE) return -1;
+        int blockSize = (int) Math.sqrt(n);
+        int step = blockSize;
+        int prev = 0;
+
+        while (prev < n && compareColumn(column, ids, fromIndex + Math.min(step, n) - 1, key, encoded) < 0) {
+            prev = step;
+            step += blockSize;
+            if (prev >= n) return -1;
+        }
+
+        while (prev < Math.min(step, n)) {
+            if (compareColumn(column, ids, fromIndex + prev, key, encoded) == 0) return fromIndex + prev;
+            prev++;
+        }
+        return -1;
+    }
+
+    public static int exponentialSearchColumn(ArticleIdColumn column, String key) {
+        return exponentialSearchColumn(column, key, 0, column.size());
+    }
+
+    public static int exponentialSearchColumn(ArticleIdColumn column, String key, int fromIndex, int toIndex) {
+        int n = toIndex - fromIndex;
+        if (n <= 0) return -1;
+        long[] ids = column.numericIds();
+        long encoded = ids != null ? ArticleIdColumn.encode(key) : 0;
+        if (ids != null && encoded == ArticleIdColumn.NOT_ENCODABLE) return -1;
+        if (compareColumn(column, ids, fromIndex, key, encoded) == 0) return fromIndex;
         int i = 1;
 
-        while (i < n && list.get(i).getId().compareTo(key) <= 0) {
+        while (i < n && compareColumn(column, ids, fromIndex + i, key, encoded) <= 0) {
             i *= 2;
         }
-        int result = binarySearchLinkedList(new LinkedList<>(list.subList(i / 2, Math.min(i, n))), key);
-        return result != -1 ? result + (i / 2) : -1;
+        return binarySearchColumn(column, key, fromIndex + i / 2, fromIndex + Math.min(i, n));
+    }
+
+    private static int compareColumn(ArticleIdColumn column, long[] ids, int index, String key, long encoded) {
+        if (ids != null) return Long.compare(ids[index], encoded);
+        return column.compareAt(index, key);
     }
 
     // Overloaded methods for List<Article>
     public static int linearSearch(List<Article> list, String key) {
-        if (list instanceof ArrayList)
-            return linearSearchArrayList((ArrayList<Article>) list, key);
-        else if (list instanceof LinkedList)
-            return linearSearchLinkedList((LinkedList<Article>) list, key);
+        return linearSearch(list, key, 0, list.size());
+    }
+
+    public static int linearSearch(List<Article> list, String key, int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, list.size());
+        if (list instanceof ArticleColumnList)
+            return linearSearchColumn(((ArticleColumnList) list).column(), key, fromIndex, toIndex);
+        else if (list instanceof RandomAccess)
+            return linearSearchArrayList(list, key, fromIndex, toIndex);
+        else if (list instanceof LinkedList || list instanceof SkipLinkedList)
+            return linearSearchLinkedList(list, key, fromIndex, toIndex);
         else
             throw new IllegalArgumentException("Unsupported List type");
     }
 
     public static int binarySearch(List<Article> list, String key) {
-        if (list instanceof ArrayList)
-            return binarySearchArrayList((ArrayList<Article>) list, key);
+        return binarySearch(list, key, 0, list.size());
+    }
+
+    public static int binarySearch(List<Article> list, String key, int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, list.size());
+        if (list instanceof ArticleColumnList)
+            return binarySearchColumn(((ArticleColumnList) list).column(), key, fromIndex, toIndex);
+        else if (list instanceof RandomAccess || list instanceof SkipLinkedList)
+            return binarySearchArrayList(list, key, fromIndex, toIndex);
         else if (list instanceof LinkedList)
-            return binarySearchLinkedList((LinkedList<Article>) list, key);
+            return binarySearchLinkedList((LinkedList<Article>) list, key, fromIndex, toIndex);
         else
             throw new IllegalArgumentException("Unsupported List type");
     }
 
     public static int jumpSearch(List<Article> list, String key) {
-        if (list instanceof ArrayList)
-            return jumpSearchArrayList((ArrayList<Article>) list, key);
+        return jumpSearch(list, key, 0, list.size());
+    }
+
+    public static int jumpSearch(List<Article> list, String key, int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, list.size());
+        if (list instanceof ArticleColumnList)
+            return jumpSearchColumn(((ArticleColumnList) list).column(), key, fromIndex, toIndex);
+        else if (list instanceof RandomAccess || list instanceof SkipLinkedList)
+            return jumpSearchArrayList(list, key, fromIndex, toIndex);
         else if (list instanceof LinkedList)
-            return jumpSearchLinkedList((LinkedList<Article>) list, key);
+            return jumpSearchLinkedList((LinkedList<Article>) list, key, fromIndex, toIndex);
         else
             throw new IllegalArgumentException("Unsupported List type");
     }
 
     public static int exponentialSearch(List<Article> list, String key) {
-        if (list instanceof ArrayList)
-            return exponentialSearchArrayList((ArrayList<Article>) list, key);
+        return exponentialSearch(list, key, 0, list.size());
+    }
+
+    public static int exponentialSearch(List<Article> list, String key, int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, list.size());
+        if (list instanceof ArticleColumnList)
+            return exponentialSearchColumn(((ArticleColumnList) list).column(), key, fromIndex, toIndex);
+        else if (list instanceof RandomAccess || list instanceof SkipLinkedList)
+            return exponentialSearchArrayList(list, key, fromIndex, toIndex);
         else if (list instanceof LinkedList)
-            return exponentialSearchLinkedList((LinkedList<Article>) list, key);
+            return exponentialSearchLinkedList((LinkedList<Article>) list, key, fromIndex, toIndex);
         else
             throw new IllegalArgumentException("Unsupported List type");
     }
-}
\ No newline at end of file
+
+    // Vector (SIMD) searches: on a numeric ID column, Linear Search and the final in-block scan of
+    // Jump Search compare VectorIdScan.lanes() packed IDs per instruction. They need the incubating
+    // Vector API (java --add-modules jdk.incubator.vector); without it, on other lists or on
+    // non-numeric IDs they run the scalar linearSearch / jumpSearch.
+    private static final int VECTOR_LANES = detectVectorLanes();
+
+    private static int detectVectorLanes() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return 0;
+        try {
+            int lanes = VectorIdScan.lanes();
+            return lanes >= 2 ? lanes : 0;
+        } catch (LinkageError e) {
+            return 0;
+        }
+    }
+
+    public static boolean isVectorScanAvailable() {
+        return VECTOR_LANES > 0;
+    }
+
+    // IDs compared per vector instruction, 0 when the scalar fallback is in use
+    public static int vectorLanes() {
+        return VECTOR_LANES;
+    }
+
+    public static String vectorScanDescription() {
+        return isVectorScanAvailable()
+            ? "Vector scan: " + VECTOR_LANES + " x 64-bit lanes"
+            : "Vector scan: unavailable (run with --add-modules jdk.incubator.vector), using scalar fallback";
+    }
+
+    public static int vectorLinearSearch(List<Article> list, String key) {
+        return vectorLinearSearch(list, key, 0, list.size());
+    }
+
+    public static int vectorLinearSearch(List<Article> list, String key, int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, list.size());
+        long[] ids = vectorIds(list);
+        if (ids == null) return linearSearch(list, key, fromIndex, toIndex);
+        long encoded = ArticleIdColumn.encode(key);
+        if (encoded == ArticleIdColumn.NOT_ENCODABLE) return -1;
+        return VectorIdScan.indexOf(ids, encoded, fromIndex, toIndex);
+    }
+
+    public static int vectorJumpSearch(List<Article> list, String key) {
+        return vectorJumpSearch(list, key, 0, list.size());
+    }
+
+    // Scalar jumps over sqrt(n) blocks, then the block that may hold the key is scanned in vectors
+    public static int vectorJumpSearch(List<Article> list, String key, int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, list.size());
+        long[] ids = vectorIds(list);
+        if (ids == null) return jumpSearch(list, key, fromIndex, toIndex);
+        long encoded = ArticleIdColumn.encode(key);
+        int n = toIndex - fromIndex;
+        if (n <= 0 || encoded == ArticleIdColumn.NOT_ENCODABLE) return -1;
+        int blockSize = (int) Math.sqrt(n);
+        int blockStart = fromIndex;
+        int blockEnd = fromIndex + blockSize;
+        while (ids[Math.min(blockEnd, toIndex) - 1] < encoded) {
+            if (blockEnd >= toIndex) return -1;
+            blockStart = blockEnd;
+            blockEnd += blockSize;
+        }
+        return VectorIdScan.indexOf(ids, encoded, blockStart, Math.min(blockEnd, toIndex));
+    }
+
+    // Packed numeric IDs when the vector path applies to this list, else null
+    private static long[] vectorIds(List<Article> list) {
+        if (VECTOR_LANES == 0 || !(list instanceof ArticleColumnList)) return null;
+        return ((ArticleColumnList) list).column().numericIds();
+    }
+
+    // Interpolation Search: probes where the key would sit if IDs were evenly spread between the
+    // current ends, reading IDs as numbers via interpolationPosition. Guard and midpoint probes keep
+    // skewed IDs to a small multiple of binary search's probe count.
+    // Works on any list; a LinkedList is probed through a cursor. Non-numeric IDs bisect.
+    public static int interpolationSearch(List<Article> list, String key) {
+        return interpolationSearch(list, key, 0, list.size());
+    }
+
+    public static int interpolationSearch(List<Article> list, String key, int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, list.size());
+        if (fromIndex >= toIndex) return -1;
+        LinkedCursor cursor = LinkedCursor.over(list, fromIndex);
+        double target = interpolationPosition(key);
+        int low = fromIndex, high = toIndex - 1;
+        String lowId = probe(list, cursor, low).getId();
+        int cmpLow = lowId.compareTo(key);
+        if (cmpLow >= 0) return cmpLow == 0 ? low : -1;
+        String highId = probe(list, cursor, high).getId();
+        int cmpHigh = highId.compareTo(key);
+        if (cmpHigh <= 0) return cmpHigh == 0 ? high : -1;
+        // After an interpolation probe that fails to halve the range comes a guard probe an eighth of
+        // the range past it (the key is usually close by), and if that fails too a midpoint probe
+        int phase = 0;
+        boolean lastBelow = false;
+
+        // lowId < key < highId throughout, so only (low, high) is left to probe
+        while (high - low >= 2) {
+            int span = high - low;
+            int pos;
+            if (phase == 0) {
+                pos = interpolate(interpolationPosition(lowId), interpolationPosition(highId), target, low, high);
+            } else if (phase == 1) {
+                int guard = Math.max(1, span / 8);
+                pos = lastBelow ? Math.min(high - 1, low + guard) : Math.max(low + 1, high - guard);
+            } else {
+                pos = low + span / 2;
+            }
+            String id = probe(list, cursor, pos).getId();
+            int cmp = id.compareTo(key);
+            if (cmp == 0) return pos;
+            lastBelow = cmp < 0;
+            if (cmp < 0) {
+                low = pos;
+                lowId = id;
+            } else {
+                high = pos;
+                highId = id;
+            }
+            phase = (high - low) * 2 > span ? (phase + 1) % 3 : 0;
+        }
+        return -1;
+    }
+
+    // Interpolation-Sequential Search: one interpolation probe, then a sequential walk towards the key.
+    // The walk is capped at sqrt(n) steps; past that the rest of that side is binary searched.
+    public static int interpolationSequentialSearch(List<Article> list, String key) {
+        return interpolationSequentialSearch(list, key, 0, list.size());
+    }
+
+    public static int interpolationSequentialSearch(List<Article> list, String key, int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, list.size());
+        if (fromIndex >= toIndex) return -1;
+        LinkedCursor cursor = LinkedCursor.over(list, fromIndex);
+        int low = fromIndex, high = toIndex - 1;
+        String lowId = probe(list, cursor, low).getId();
+        int cmpLow = lowId.compareTo(key);
+        if (cmpLow >= 0) return cmpLow == 0 ? low : -1;
+        String highId = probe(list, cursor, high).getId();
+        int cmpHigh = highId.compareTo(key);
+        if (cmpHigh <= 0) return cmpHigh == 0 ? high : -1;
+        if (high - low < 2) return -1;
+
+        int pos = interpolate(interpolationPosition(lowId), interpolationPosition(highId),
+            interpolationPosition(key), low, high);
+        int maxSteps = Math.max(1, (int) Math.sqrt(high - low));
+        int cmp = probe(list, cursor, pos).getId().compareTo(key);
+        // The walk stops at low or high at the latest, both known to be on the far side of the key
+        for (int steps = 0; cmp < 0; steps++) {
+            if (steps == maxSteps) return binarySearch(list, key, pos + 1, high);
+            cmp = probe(list, cursor, ++pos).getId().compareTo(key);
+        }
+        for (int steps = 0; cmp > 0; steps++) {
+            if (steps == maxSteps) return binarySearch(list, key, low + 1, pos);
+            cmp = probe(list, cursor, --pos).getId().compareTo(key);
+        }
+        return cmp == 0 ? pos : -1;
+    }
+
+    // Gallop Search: exponential search outwards from a guessed index, O(log e) probes for a guess
+    // e slots off. A LinkedList is walked by one cursor from the guess, so after reaching the guess
+    // the probes cost O(e) steps instead of a get(i) walk each.
+    public static int gallopSearch(List<Article> list, String key, int guess, int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, list.size());
+        if (fromIndex >= toIndex) return -1;
+        guess = Math.max(fromIndex, Math.min(toIndex - 1, guess));
+        LinkedCursor cursor = LinkedCursor.over(list, guess);
+        int cmp = probe(list, cursor, guess).getId().compareTo(key);
+        if (cmp == 0) return guess;
+        // Gallop away from the guess until an ID on the far side of the key, leaving [low, high]
+        int low, high, step = 1;
+        if (cmp < 0) {
+            low = guess + 1;
+            while (guess + step < toIndex && probe(list, cursor, guess + step).getId().compareTo(key) < 0) {
+                low = guess + step + 1;
+                step *= 2;
+            }
+            high = Math.min(toIndex - 1, guess + step);
+        } else {
+            high = guess - 1;
+            while (guess - step >= fromIndex && probe(list, cursor, guess - step).getId().compareTo(key) > 0) {
+                high = guess - step - 1;
+                step *= 2;
+            }
+            low = Math.max(fromIndex, guess - step);
+        }
+        while (low <= high) {
+            int mid = low + (high - low) / 2;
+            cmp = probe(list, cursor, mid).getId().compareTo(key);
+            if (cmp == 0) return mid;
+            if (cmp < 0) low = mid + 1;
+            else high = mid - 1;
+        }
+        return -1;
+    }
+
+    // IDs of '.' and digits (arXiv-style or plain numbers) read as radix-12 fractions: padding 0,
+    // '.' 1, digits 2-11, first 14 chars. Order-preserving like String.compareTo; NaN for other IDs.
+    static double interpolationPosition(String id) {
+        long digits = 0;
+        int length = Math.min(id.length(), 14);
+        for (int i = 0; i < length; i++) {
+            char c = id.charAt(i);
+            if (c == '.') digits = digits * 12 + 1;
+            else if (c >= '0' && c <= '9') digits = digits * 12 + (c - '0' + 2);
+            else return Double.NaN;
+        }
+        return digits * POSITION_SCALE[length];
+    }
+
+    // POSITION_SCALE[k] = 12^-k
+    private static final double[] POSITION_SCALE = new double[15];
+    static {
+        POSITION_SCALE[0] = 1;
+        for (int k = 1; k < POSITION_SCALE.length; k++) POSITION_SCALE[k] = POSITION_SCALE[k - 1] / 12;
+    }
+
+    // Estimated index of target strictly inside (low, high), or the midpoint when positions are unusable
+    static int interpolate(double lowPosition, double highPosition, double target, int low, int high) {
+        int pos;
+        if (Double.isNaN(lowPosition) || Double.isNaN(highPosition) || Double.isNaN(target)
+                || highPosition <= lowPosition) {
+            pos = low + (high - low) / 2;
+        } else {
+            pos = low + (int) ((target - lowPosition) / (highPosition - lowPosition) * (high - low));
+        }
+        return Math.max(low + 1, Math.min(high - 1, pos));
+    }
+
+    // Lower / upper bounds: first index in [fromIndex, toIndex) whose ID is >= key (lower) or
+    // > key (upper), or toIndex if there is none. Each probes the way its algorithm does.
+    public static int linearLowerBound(List<Article> list, String key, int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, list.size());
+        return linearBound(list, key, fromIndex, toIndex, false);
+    }
+
+    public static int linearUpperBound(List<Article> list, String key, int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, list.size());
+        return linearBound(list, key, fromIndex, toIndex, true);
+    }
+
+    public static int binaryLowerBound(List<Article> list, String key, int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, list.size());
+        return binaryBound(list, key, fromIndex, toIndex, false);
+    }
+
+    public static int binaryUpperBound(List<Article> list, String key, int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, list.size());
+        return binaryBound(list, key, fromIndex, toIndex, true);
+    }
+
+    public static int jumpLowerBound(List<Article> list, String key, int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, list.size());
+        return jumpBound(list, key, fromIndex, toIndex, false);
+    }
+
+    public static int jumpUpperBound(List<Article> list, String key, int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, list.size());
+        return jumpBound(list, key, fromIndex, toIndex, true);
+    }
+
+    public static int exponentialLowerBound(List<Article> list, String key, int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, list.size());
+        return exponentialBound(list, key, fromIndex, toIndex, false);
+    }
+
+    public static int exponentialUpperBound(List<Article> list, String key, int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, list.size());
+        return exponentialBound(list, key, fromIndex, toIndex, true);
+    }
+
+    // True while the article sorts before the bound being searched for
+    private static boolean before(Article article, String key, boolean upper) {
+        int cmp = article.getId().compareTo(key);
+        return upper ? cmp <= 0 : cmp < 0;
+    }
+
+    private static int linearBound(List<Article> list, String key, int fromIndex, int toIndex, boolean upper) {
+        if (!(list instanceof RandomAccess)) {
+            ListIterator<Article> cursor = list.listIterator(fromIndex);
+            for (int i = fromIndex; i < toIndex; i++) {
+                if (!before(cursor.next(), key, upper)) return i;
+            }
+            return toIndex;
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (!before(list.get(i), key, upper)) return i;
+        }
+        return toIndex;
+    }
+
+    private static int binaryBound(List<Article> list, String key, int fromIndex, int toIndex, boolean upper) {
+        int low = fromIndex, high = toIndex - 1;
+        LinkedCursor cursor = LinkedCursor.over(list, (low + high) >>> 1);
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (before(probe(list, cursor, mid), key, upper)) low = mid + 1;
+            else high = mid - 1;
+        }
+        return low;
+    }
+
+    // Skips whole sqrt(n) blocks whose last element is still before the bound, then scans one block
+    private static int jumpBound(List<Article> list, String key, int fromIndex, int toIndex, boolean upper) {
+        int blockSize = Math.max(1, (int) Math.sqrt(toIndex - fromIndex));
+        int start = fromIndex;
+        LinkedCursor cursor = LinkedCursor.over(list, fromIndex);
+        while (start + blockSize <= toIndex && before(probe(list, cursor, start + blockSize - 1), key, upper)) {
+            start += blockSize;
+        }
+        int end = Math.min(start + blockSize, toIndex);
+        for (int i = start; i < end; i++) {
+            if (!before(probe(list, cursor, i), key, upper)) return i;
+        }
+        return end;
+    }
+
+    // Gallops from fromIndex by doubling steps, then binary searches the last gap
+    private static int exponentialBound(List<Article> list, String key, int fromIndex, int toIndex, boolean upper) {
+        if (fromIndex >= toIndex) return fromIndex;
+        LinkedCursor cursor = LinkedCursor.over(list, fromIndex);
+        if (!before(probe(list, cursor, fromIndex), key, upper)) return fromIndex;
+        int step = 1;
+        while (fromIndex + step < toIndex && before(probe(list, cursor, fromIndex + step), key, upper)) {
+            step *= 2;
+        }
+        int low = fromIndex + step / 2 + 1, high = Math.min(fromIndex + step, toIndex) - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (before(probe(list, cursor, mid), key, upper)) low = mid + 1;
+            else high = mid - 1;
+        }
+        return low;
+    }
+
+    // Random-access and skip lists are probed with get(i), a LinkedList through its cursor
+    private static Article probe(List<Article> list, LinkedCursor cursor, int index) {
+        return cursor == null ? list.get(index) : cursor.at(index);
+    }
+
+    // A ListIterator moved forward or backward from wherever the previous probe left it
+    private static final class LinkedCursor {
+        private final ListIterator<Article> iterator;
+
+        LinkedCursor(List<Article> list, int startIndex) {
+            this.iterator = list.listIterator(startIndex);
+        }
+
+        // Null for lists with cheap get(i), so random-access bounds stay allocation-free
+        static LinkedCursor over(List<Article> list, int startIndex) {
+            return list instanceof LinkedList && startIndex < list.size() ? new LinkedCursor(list, startIndex) : null;
+        }
+
+        Article at(int index) {
+            int next = iterator.nextIndex();
+            if (index >= next) {
+                for (int i = next; i < index; i++) iterator.next();
+                return iterator.next();
+            }
+            for (int i = next; i > index + 1; i--) iterator.previous();
+            return iterator.previous();
+        }
+    }
+
+    // Batch lookups: results[i] is the index of the i-th key in iteration order, or -1
+
+    // One pass over the list resolves every key (first occurrence, like linearSearch)
+    public static int[] linearSearchAll(List<Article> list, Collection<String> keys) {
+        String[] keyArray = keys.toArray(new String[0]);
+        int[] results = new int[keyArray.length];
+        Arrays.fill(results, -1);
+        Map<String, Integer> pending = new HashMap<>();
+        for (int slot = keyArray.length - 1; slot >= 0; slot--) {
+            pending.put(keyArray[slot], slot);
+        }
+
+        int index = 0;
+        for (Article article : list) {
+            if (pending.isEmpty()) break;
+            Integer slot = pending.remove(article.getId());
+            if (slot != null) results[slot] = index;
+            index++;
+        }
+        return copyRepeatedKeys(keyArray, results);
+    }
+
+    public static int[] binarySearchAll(List<Article> list, Collection<String> keys) {
+        String[] keyArray = keys.toArray(new String[0]);
+        if (list instanceof RandomAccess && !(list instanceof ArticleColumnList))
+            return binarySearchAllArrayList(list, keyArray, sortedOrder(keyArray));
+        else if (list instanceof LinkedList)
+            return mergeSearchAll(list, keyArray, sortedOrder(keyArray));
+        else
+            return searchEach(list, keyArray, SearchAlgorithms::binarySearch);
+    }
+
+    public static int[] jumpSearchAll(List<Article> list, Collection<String> keys) {
+        String[] keyArray = keys.toArray(new String[0]);
+        if (list instanceof LinkedList)
+            return mergeSearchAll(list, keyArray, sortedOrder(keyArray));
+        else
+            return searchEach(list, keyArray, SearchAlgorithms::jumpSearch);
+    }
+
+    public static int[] exponentialSearchAll(List<Article> list, Collection<String> keys) {
+        String[] keyArray = keys.toArray(new String[0]);
+        if (list instanceof RandomAccess && !(list instanceof ArticleColumnList))
+            return exponentialSearchAllArrayList(list, keyArray, sortedOrder(keyArray));
+        else if (list instanceof LinkedList)
+            return mergeSearchAll(list, keyArray, sortedOrder(keyArray));
+        else
+            return searchEach(list, keyArray, SearchAlgorithms::exponentialSearch);
+    }
+
+    // Keys in ascending order: each lower bound becomes the left edge of the next search window
+    private static int[] binarySearchAllArrayList(List<Article> list, String[] keys, int[] order) {
+        int n = list.size();
+        int[] results = new int[keys.length];
+        Arrays.fill(results, -1);
+        int low = 0;
+
+        for (int slot : order) {
+            String key = keys[slot];
+            int bound = binaryBound(list, key, low, n, false);
+            if (bound < n && list.get(bound).getId().equals(key)) results[slot] = bound;
+            low = bound;
+        }
+        return results;
+    }
+
+    // Gallops forward from the previous key's position, then binary searches the last gap
+    private static int[] exponentialSearchAllArrayList(List<Article> list, String[] keys, int[] order) {
+        int n = list.size();
+        int[] results = new int[keys.length];
+        Arrays.fill(results, -1);
+        int low = 0;
+
+        for (int slot : order) {
+            if (low >= n) break;
+            String key = keys[slot];
+            int step = 1;
+            while (low + step < n && list.get(low + step).getId().compareTo(key) < 0) {
+                step *= 2;
+            }
+            int bound = binaryBound(list, key, low + step / 2, Math.min(low + step + 1, n), false);
+            if (bound < n && list.get(bound).getId().equals(key)) results[slot] = bound;
+            low = bound;
+        }
+        return results;
+    }
+
+    // Sorted merge: one forward walk of the list answers every key, O(n + k log k) on LinkedList
+    private static int[] mergeSearchAll(List<Article> list, String[] keys, int[] order) {
+        int[] results = new int[keys.length];
+        Arrays.fill(results, -1);
+        ListIterator<Article> cursor = list.listIterator();
+        Article current = cursor.hasNext() ? cursor.next() : null;
+        int index = 0;
+
+        for (int slot : order) {
+            String key = keys[slot];
+            while (current != null && current.getId().compareTo(key) < 0) {
+                current = cursor.hasNext() ? cursor.next() : null;
+                index++;
+            }
+            if (current == null) break;
+            if (current.getId().equals(key)) results[slot] = index;
+        }
+        return results;
+    }
+
+    // Range and prefix queries: articles with from <= ID < to in ID order, null bounds are open.
+    // Views are subList views of the source list and iterators are lazy; nothing is copied.
+
+    // Random-access and skip lists: binary search for the start, then gallop from it for the end
+    // (ranges are usually short). LinkedList: one forward walk to the end of the range.
+    public static List<Article> rangeView(List<Article> list, String from, String to) {
+        int n = list.size();
+        if (list instanceof RandomAccess || list instanceof SkipLinkedList) {
+            int start = from == null ? 0 : binaryBound(list, from, 0, n, false);
+            int end = to == null ? n : exponentialBound(list, to, start, n, false);
+            return list.subList(start, Math.max(start, end));
+        }
+        int start = 0;
+        int end = 0;
+        for (Article article : list) {
+            String id = article.getId();
+            if (to != null && id.compareTo(to) >= 0) break;
+            if (from != null && id.compareTo(from) < 0) start++;
+            end++;
+        }
+        return list.subList(start, Math.max(start, end));
+    }
+
+    // Lazy: a LinkedList is walked only as far as the caller consumes
+    public static Iterator<Article> rangeIterator(List<Article> list, String from, String to) {
+        if (list instanceof RandomAccess || list instanceof SkipLinkedList) return rangeView(list, from, to).iterator();
+        return new RangeIterator(list.listIterator(), from, to);
+    }
+
+    public static List<Article> prefixView(List<Article> list, String prefix) {
+        return rangeView(list, prefix, prefixEnd(prefix));
+    }
+
+    public static Iterator<Article> prefixIterator(List<Article> list, String prefix) {
+        return rangeIterator(list, prefix, prefixEnd(prefix));
+    }
+
+    // Smallest string above every string starting with prefix, or null if there is none
+    static String prefixEnd(String prefix) {
+        for (int i = prefix.length() - 1; i >= 0; i--) {
+            char c = prefix.charAt(i);
+            if (c != Character.MAX_VALUE) return prefix.substring(0, i) + (char) (c + 1);
+        }
+        return null;
+    }
+
+    private static final class RangeIterator implements Iterator<Article> {
+        private final ListIterator<Article> cursor;
+        private final String from;
+        private final String to;
+        private Article next;
+        private boolean started = false;
+        private boolean finished = false;
+
+        RangeIterator(ListIterator<Article> cursor, String from, String to) {
+            this.cursor = cursor;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) return true;
+            while (!finished && cursor.hasNext()) {
+                Article candidate = cursor.next();
+                if (!started && from != null && candidate.getId().compareTo(from) < 0) continue;
+                started = true;
+                if (to != null && candidate.getId().compareTo(to) >= 0) {
+                    // Past the end of the range: stop walking for good
+                    finished = true;
+                    break;
+                }
+                next = candidate;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public Article next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            Article result = next;
+            next = null;
+            return result;
+        }
+    }
+
+    private static int[] sortedOrder(String[] keys) {
+        Integer[] order = new Integer[keys.length];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, Comparator.comparing((Integer i) -> keys[i]));
+        int[] result = new int[order.length];
+        for (int i = 0; i < order.length; i++) result[i] = order[i];
+        return result;
+    }
+
+    private static int[] copyRepeatedKeys(String[] keys, int[] results) {
+        Map<String, Integer> firstSlot = new HashMap<>();
+        for (int slot = 0; slot < keys.length; slot++) {
+            Integer first = firstSlot.putIfAbsent(keys[slot], slot);
+            if (first != null) results[slot] = results[first];
+        }
+        return results;
+    }
+
+    private static int[] searchEach(List<Article> list, String[] keys, KeySearch search) {
+        int[] results = new int[keys.length];
+        for (int slot = 0; slot < keys.length; slot++) {
+            results[slot] = search.search(list, keys[slot]);
+        }
+        return results;
+    }
+
+    @FunctionalInterface
+    private interface KeySearch {
+        int search(List<Article> list, String key);
+    }
+}
@@ -0,0 +1,146 @@
+import java.util.AbstractSequentialList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+// Immutable doubly-linked list of sorted articles with skip lanes on top.
+// The node at index i has lanes 1..ntz(i) (every lane for node 0), and lane k links to the node
+// 2^k positions ahead, so get(i) descends the lanes in O(log n) hops instead of walking O(n) nodes.
+public final class SkipLinkedList extends AbstractSequentialList<Article> {
+    private static final class Node {
+        final Article article;
+        Node next;
+        Node previous;
+        // skips[k - 1]: the node 2^k positions ahead; null for nodes with no lanes
+        Node[] skips;
+
+        Node(Article article) {
+            this.article = article;
+        }
+    }
+
+    private final Node head;
+    private final Node tail;
+    private final int size;
+    private final int levels;
+
+    public SkipLinkedList(List<Article> sortedData) {
+        int n = sortedData.size();
+        int levels = 0;
+        while (levels < 30 && (1 << (levels + 1)) < n) levels++;
+
+        Node first = null;
+        Node last = null;
+        // Last node seen so far on each lane, waiting for its forward link
+        Node[] pending = new Node[levels + 1];
+        int index = 0;
+        for (Article article : sortedData) {
+            Node node = new Node(article);
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+                node.previous = last;
+            }
+            int height = index == 0 ? levels : Math.min(Integer.numberOfTrailingZeros(index), levels);
+            if (height > 0) {
+                node.skips = new Node[height];
+                for (int k = 1; k <= height; k++) {
+                    if (pending[k] != null) pending[k].skips[k - 1] = node;
+                    pending[k] = node;
+                }
+            }
+            last = node;
+            index++;
+        }
+        this.head = first;
+        this.tail = last;
+        this.size = n;
+        this.levels = levels;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // O(log n): take the highest lane that does not overshoot, then drop a level
+    @Override
+    public Article get(int index) {
+        return node(index).article;
+    }
+
+    @Override
+    public ListIterator<Article> listIterator(int index) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return new Cursor(index == size ? null : node(index), index);
+    }
+
+    private Node node(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        if (index == size - 1) return tail;
+        Node node = head;
+        int position = 0;
+        for (int k = levels; k >= 1; k--) {
+            int span = 1 << k;
+            while (position + span <= index && node.skips != null && node.skips.length >= k && node.skips[k - 1] != null) {
+                node = node.skips[k - 1];
+                position += span;
+            }
+        }
+        while (position < index) {
+            node = node.next;
+            position++;
+        }
+        return node;
+    }
+
+    // Read-only cursor over the bottom (fully linked) level
+    private final class Cursor implements ListIterator<Article> {
+        private Node nextNode;
+        private int nextIndex;
+
+        Cursor(Node nextNode, int nextIndex) {
+            this.nextNode = nextNode;
+            this.nextIndex = nextIndex;
+        }
+
+        @Override
+        public boolean hasNext() { return nextIndex < size; }
+
+        @Override
+        public boolean hasPrevious() { return nextIndex > 0; }
+
+        @Override
+        public Article next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            Article article = nextNode.article;
+            nextNode = nextNode.next;
+            nextIndex++;
+            return article;
+        }
+
+        @Override
+        public Article previous() {
+            if (!hasPrevious()) throw new NoSuchElementException();
+            nextNode = nextNode == null ? tail : nextNode.previous;
+            nextIndex--;
+            return nextNode.article;
+        }
+
+        @Override
+        public int nextIndex() { return nextIndex; }
+
+        @Override
+        public int previousIndex() { return nextIndex - 1; }
+
+        @Override
+        public void remove() { throw new UnsupportedOperationException("SkipLinkedList is immutable"); }
+
+        @Override
+        public void set(Article article) { throw new UnsupportedOperationException("SkipLinkedList is immutable"); }
+
+        @Override
+        public void add(Article article) { throw new UnsupportedOperationException("SkipLinkedList is immutable"); }
+    }
+}
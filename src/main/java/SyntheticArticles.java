@@ -0,0 +1,202 @@
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.RandomAccess;
+import java.util.SplittableRandom;
+
+// Deterministic synthetic corpus of any size from 10^3 to 10^8 rows. IDs follow the arXiv scheme
+// "YYMM.NNNNN": months from 0704 on, numbered from 00001 within a month, with the monthly volume
+// growing over time like the real archive. They are fixed width, so index order is String order.
+// Article i is a pure function of (seed, i): titles and abstracts are drawn from per-category
+// vocabularies, and nothing has to be stored to serve a row again.
+public final class SyntheticArticles {
+    public static final int MIN_ROWS = 1_000;
+    public static final int MAX_ROWS = 100_000_000;
+    // 0704 .. 9912
+    private static final int MAX_MONTHS = (99 - 7) * 12 + 9;
+    // Papers in a typical month, which sets how many months a corpus spans
+    private static final int TYPICAL_MONTH = 8_000;
+    // Monthly volume stays below this so every month has unused numbers for missing IDs
+    private static final int MONTH_CAPACITY = 99_000;
+    private static final int MAX_NUMBER = 99_999;
+
+    private static final String[][] VOCABULARY = {
+        {"neural", "network", "learning", "graph", "algorithm", "optimization", "transformer", "inference",
+            "distributed", "compiler", "language", "retrieval", "embedding", "reinforcement", "complexity"},
+        {"quantum", "field", "lattice", "spin", "dark", "matter", "cosmological", "plasma", "magnetic",
+            "entanglement", "gravitational", "superconducting", "phase", "particle", "scattering"},
+        {"manifold", "algebra", "operator", "topological", "conjecture", "cohomology", "group", "prime",
+            "invariant", "boundary", "equation", "measure", "polynomial", "category", "spectral"},
+        {"bayesian", "estimator", "regression", "sampling", "posterior", "variance", "likelihood", "causal",
+            "bootstrap", "kernel", "sparse", "covariance", "prior", "hypothesis", "mixture"},
+        {"protein", "gene", "cell", "neuron", "evolutionary", "population", "epidemic", "metabolic",
+            "sequence", "expression", "tissue", "folding", "signaling", "genome", "viral"},
+        {"portfolio", "volatility", "option", "pricing", "market", "risk", "asset", "hedging", "liquidity",
+            "stochastic", "equilibrium", "trading", "credit", "arbitrage", "returns"}
+    };
+    private static final String[] CONNECTORS = {"of", "for", "with", "via", "in", "on", "and", "under"};
+    private static final String[] VERBS = {"We study", "We propose", "This paper presents", "We show that",
+        "We analyze", "We introduce", "Our results suggest", "Experiments demonstrate"};
+
+    private final int size;
+    private final long seed;
+    // Month m holds rows monthStarts[m] .. monthStarts[m + 1] - 1
+    private final long[] monthStarts;
+
+    public SyntheticArticles(int size, long seed) {
+        if (size < 1 || size > MAX_ROWS) throw new IllegalArgumentException("Size must be 1.." + MAX_ROWS + ": " + size);
+        this.size = size;
+        this.seed = seed;
+        this.monthStarts = layoutMonths(size);
+    }
+
+    // Splits size rows over months whose volume grows linearly, doubling over the span unless that
+    // would push the last months past MONTH_CAPACITY
+    private static long[] layoutMonths(int size) {
+        int months = (int) Math.min(MAX_MONTHS, Math.max(1, ((long) size + TYPICAL_MONTH - 1) / TYPICAL_MONTH));
+        double growth = 1;
+        double headroom = (double) MONTH_CAPACITY * months / size;
+        if (headroom < 2) growth = Math.min(1, (headroom - 1) / (1 - headroom / 2));
+        long[] starts = new long[months + 1];
+        double total = cumulativeWeight(months, months, growth);
+        for (int m = 0; m <= months; m++) {
+            starts[m] = Math.round(size * cumulativeWeight(m, months, growth) / total);
+        }
+        return starts;
+    }
+
+    // Weight of months 0 .. m - 1 when month k weighs 1 + growth * k / (months - 1)
+    private static double cumulativeWeight(int m, int months, double growth) {
+        if (months == 1) return m;
+        return m + growth * m * (m - 1.0) / (2.0 * (months - 1));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int monthCount() {
+        return monthStarts.length - 1;
+    }
+
+    public String id(int index) {
+        int month = monthOf(index);
+        return format(month, (int) (index - monthStarts[month]) + 1);
+    }
+
+    private int monthOf(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
+        int low = 0;
+        int high = monthStarts.length - 1;
+        while (high - low > 1) {
+            int mid = (low + high) >>> 1;
+            if (monthStarts[mid] <= index) low = mid;
+            else high = mid;
+        }
+        return low;
+    }
+
+    // "YYMM.NNNNN" for month index m (0 = April 2007)
+    private static String format(int month, int number) {
+        int yearMonth = (7 + (month + 3) / 12) * 100 + (month + 3) % 12 + 1;
+        char[] id = new char[10];
+        for (int i = 3; i >= 0; i--, yearMonth /= 10) id[i] = (char) ('0' + yearMonth % 10);
+        id[4] = '.';
+        for (int i = 9; i >= 5; i--, number /= 10) id[i] = (char) ('0' + number % 10);
+        return new String(id);
+    }
+
+    // Full article: ID, title, abstract and one or two categories
+    public Article article(int index) {
+        SplittableRandom random = new SplittableRandom(seed ^ (index * 0x9E3779B97F4A7C15L));
+        int primary = random.nextInt(VOCABULARY.length);
+        int secondary = random.nextInt(4) == 0 ? random.nextInt(VOCABULARY.length) : primary;
+        int[] categories = new int[VOCABULARY.length];
+        categories[primary] = 1;
+        categories[secondary] = 1;
+
+        StringBuilder title = new StringBuilder();
+        int titleWords = 4 + random.nextInt(7);
+        for (int w = 0; w < titleWords; w++) {
+            if (w > 0) title.append(' ');
+            if (w > 0 && w < titleWords - 1 && random.nextInt(4) == 0) {
+                title.append(CONNECTORS[random.nextInt(CONNECTORS.length)]).append(' ');
+            }
+            String word = pick(random, primary, secondary);
+            title.append(w == 0 ? Character.toUpperCase(word.charAt(0)) + word.substring(1) : word);
+        }
+
+        StringBuilder abstractText = new StringBuilder();
+        int sentences = 3 + random.nextInt(4);
+        for (int s = 0; s < sentences; s++) {
+            if (s > 0) abstractText.append(' ');
+            abstractText.append(VERBS[random.nextInt(VERBS.length)]);
+            int words = 8 + random.nextInt(13);
+            for (int w = 0; w < words; w++) {
+                abstractText.append(' ');
+                abstractText.append(random.nextInt(5) == 0
+                    ? CONNECTORS[random.nextInt(CONNECTORS.length)] : pick(random, primary, secondary));
+            }
+            abstractText.append('.');
+        }
+        return new Article(id(index), title.toString(), abstractText.toString(),
+            categories[0], categories[1], categories[2], categories[3], categories[4], categories[5]);
+    }
+
+    private static String pick(SplittableRandom random, int primary, int secondary) {
+        String[] words = VOCABULARY[random.nextInt(3) == 0 ? secondary : primary];
+        return words[random.nextInt(words.length)];
+    }
+
+    // Every article with its title and abstract, in sorted order (about 1 KB per row)
+    public List<Article> articles() {
+        List<Article> articles = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) articles.add(article(i));
+        return articles;
+    }
+
+    // Sorted articles carrying only their IDs (about 100 bytes per row), enough for ID searches
+    public List<Article> idArticles() {
+        List<Article> articles = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) articles.add(Article.createDummyArticle(id(i)));
+        return articles;
+    }
+
+    // Read-only sorted list that builds each ID-only article on get(), for sizes the heap cannot hold
+    public List<Article> view() {
+        return new View();
+    }
+
+    private final class View extends AbstractList<Article> implements RandomAccess {
+        @Override
+        public Article get(int index) {
+            return Article.createDummyArticle(id(index));
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    // Well-formed ID inside the corpus' month range that no article has
+    public String missingId(Random random) {
+        int month = random.nextInt(monthCount());
+        int used = (int) (monthStarts[month + 1] - monthStarts[month]);
+        return format(month, used + 1 + random.nextInt(MAX_NUMBER - used));
+    }
+
+    // Lookup keys: hitRatio of them existing IDs, the rest missing ones, in a reproducible order
+    public List<String> keys(int count, double hitRatio, long keySeed) {
+        Random random = new Random(keySeed);
+        int hits = (int) Math.round(count * hitRatio);
+        List<String> keys = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            keys.add(i < hits ? id(random.nextInt(size)) : missingId(random));
+        }
+        Collections.shuffle(keys, random);
+        return keys;
+    }
+}
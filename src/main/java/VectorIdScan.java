@@ -0,0 +1,31 @@
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Vector API scans over packed numeric IDs (ArticleIdColumn.numericIds), one compare per
+// SPECIES.length() IDs. Only touched after SearchAlgorithms has checked that jdk.incubator.vector
+// is in the boot layer, so the app still starts without --add-modules jdk.incubator.vector.
+final class VectorIdScan {
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    private VectorIdScan() {}
+
+    static int lanes() {
+        return SPECIES.length();
+    }
+
+    // First index in [fromIndex, toIndex) holding key, or -1; the tail shorter than a vector is scalar
+    static int indexOf(long[] ids, long key, int fromIndex, int toIndex) {
+        int i = fromIndex;
+        int bound = fromIndex + SPECIES.loopBound(toIndex - fromIndex);
+        for (; i < bound; i += SPECIES.length()) {
+            VectorMask<Long> hits = LongVector.fromArray(SPECIES, ids, i).compare(VectorOperators.EQ, key);
+            if (hits.anyTrue()) return i + hits.firstTrue();
+        }
+        for (; i < toIndex; i++) {
+            if (ids[i] == key) return i;
+        }
+        return -1;
+    }
+}
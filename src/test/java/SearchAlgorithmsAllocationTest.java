@@ -0,0 +1,96 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+// Bounded and exact searches on random-access lists must not allocate: after warm-up, the bytes
+// this thread allocates across CALLS searches are read from the JVM and must stay below one per call.
+class SearchAlgorithmsAllocationTest {
+    private static final int ROWS = 10_000;
+    private static final int CALLS = 20_000;
+    private static final long SEED = 15L;
+    private static final com.sun.management.ThreadMXBean THREADS =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static final SyntheticArticles CORPUS = new SyntheticArticles(ROWS, SEED);
+    private static final List<Article> ARRAY_LIST = CORPUS.idArticles();
+    private static final List<Article> ID_COLUMN = new ArticleColumnList(ARRAY_LIST);
+    private static final List<String> KEYS = CORPUS.keys(512, 0.5, SEED);
+    private static final int FROM = ROWS / 4;
+    private static final int TO = 3 * ROWS / 4;
+    // Keeps the search results live so the JIT cannot drop the calls
+    private static long sink;
+
+    @FunctionalInterface
+    private interface Search {
+        int run(List<Article> list, String key);
+    }
+
+    @Test
+    void exactSearchesDoNotAllocate() {
+        for (List<Article> list : List.of(ARRAY_LIST, ID_COLUMN)) {
+            assertAllocationFree("linearSearch", list, SearchAlgorithms::linearSearch);
+            assertAllocationFree("binarySearch", list, SearchAlgorithms::binarySearch);
+            assertAllocationFree("jumpSearch", list, SearchAlgorithms::jumpSearch);
+            assertAllocationFree("exponentialSearch", list, SearchAlgorithms::exponentialSearch);
+        }
+    }
+
+    @Test
+    void boundedSearchesDoNotAllocate() {
+        for (List<Article> list : List.of(ARRAY_LIST, ID_COLUMN)) {
+            assertAllocationFree("bounded linearSearch", list, (l, k) -> SearchAlgorithms.linearSearch(l, k, FROM, TO));
+            assertAllocationFree("bounded binarySearch", list, (l, k) -> SearchAlgorithms.binarySearch(l, k, FROM, TO));
+            assertAllocationFree("bounded jumpSearch", list, (l, k) -> SearchAlgorithms.jumpSearch(l, k, FROM, TO));
+            assertAllocationFree("bounded exponentialSearch", list,
+                (l, k) -> SearchAlgorithms.exponentialSearch(l, k, FROM, TO));
+        }
+    }
+
+    @Test
+    void boundsDoNotAllocate() {
+        for (List<Article> list : List.of(ARRAY_LIST, ID_COLUMN)) {
+            assertAllocationFree("binaryLowerBound", list, (l, k) -> SearchAlgorithms.binaryLowerBound(l, k, FROM, TO));
+            assertAllocationFree("binaryUpperBound", list, (l, k) -> SearchAlgorithms.binaryUpperBound(l, k, FROM, TO));
+            assertAllocationFree("jumpLowerBound", list, (l, k) -> SearchAlgorithms.jumpLowerBound(l, k, FROM, TO));
+            assertAllocationFree("jumpUpperBound", list, (l, k) -> SearchAlgorithms.jumpUpperBound(l, k, FROM, TO));
+            assertAllocationFree("exponentialLowerBound", list,
+                (l, k) -> SearchAlgorithms.exponentialLowerBound(l, k, FROM, TO));
+            assertAllocationFree("exponentialUpperBound", list,
+                (l, k) -> SearchAlgorithms.exponentialUpperBound(l, k, FROM, TO));
+        }
+    }
+
+    @Test
+    void searchesStillFindTheirKeys() {
+        for (int i = 0; i < KEYS.size(); i++) {
+            String key = KEYS.get(i);
+            int expected = ARRAY_LIST.indexOf(Article.createDummyArticle(key));
+            assertEquals(expected, SearchAlgorithms.binarySearch(ID_COLUMN, key), key);
+            assertEquals(expected, SearchAlgorithms.exponentialSearch(ARRAY_LIST, key), key);
+        }
+    }
+
+    private static void assertAllocationFree(String name, List<Article> list, Search search) {
+        assertTrue(THREADS.isThreadAllocatedMemorySupported(), "JVM cannot report allocated bytes");
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+        // Warm-up, so the measured calls run compiled code
+        sink += runCalls(list, search);
+        long before = THREADS.getCurrentThreadAllocatedBytes();
+        sink += runCalls(list, search);
+        long allocated = THREADS.getCurrentThreadAllocatedBytes() - before;
+        assertTrue(allocated < CALLS, () -> String.format("%s on %s allocated %.2f bytes per call",
+            name, list.getClass().getSimpleName(), (double) allocated / CALLS));
+    }
+
+    private static long runCalls(List<Article> list, Search search) {
+        long found = 0;
+        for (int i = 0; i < CALLS; i++) {
+            if (search.run(list, KEYS.get(i % KEYS.size())) >= 0) found++;
+        }
+        return found;
+    }
+}